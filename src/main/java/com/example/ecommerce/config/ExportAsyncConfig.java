@@ -0,0 +1,42 @@
+package com.example.ecommerce.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.concurrent.Callable;
+
+@Configuration
+public class ExportAsyncConfig implements WebMvcConfigurer {
+
+    private static final String EXPORT_PATH_PREFIX = "/api/v1/admin/export/";
+
+    private final long exportTimeoutMillis;
+
+    public ExportAsyncConfig(@Value("${app.export.async-timeout-ms:3600000}") long exportTimeoutMillis) {
+        this.exportTimeoutMillis = exportTimeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+            @Override
+            public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                if (request instanceof AsyncWebRequest asyncRequest && isExport(request)) {
+                    asyncRequest.setTimeout(exportTimeoutMillis);
+                }
+            }
+        });
+    }
+
+    private boolean isExport(NativeWebRequest request) {
+        HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+        return servletRequest != null
+                && servletRequest.getRequestURI().startsWith(servletRequest.getContextPath() + EXPORT_PATH_PREFIX);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.ecommerce.config;
+
+import com.example.ecommerce.metrics.RequestMetricsFilter;
+import com.example.ecommerce.metrics.RequestMetricsSessionListener;
+import com.example.ecommerce.metrics.RequestMetricsStatementInspector;
+import com.example.ecommerce.metrics.TimedJacksonHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.request-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestMetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer requestMetricsHibernateCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new RequestMetricsStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, RequestMetricsSessionListener.class.getName());
+        };
+    }
+
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedJacksonHttpMessageConverter(objectMapper);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${app.request-metrics.slow-threshold-ms:500}") long slowThresholdMillis,
+            @Value("${app.request-metrics.max-captured-statements:100}") int maxCapturedStatements) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(meterRegistry, Duration.ofMillis(slowThresholdMillis), maxCapturedStatements));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -3,10 +3,15 @@ package com.example.ecommerce.controller;
 import com.example.ecommerce.dto.response.DashboardResponse;
 import com.example.ecommerce.dto.response.LowStockResponse;
 import com.example.ecommerce.dto.response.RevenueReport;
+import com.example.ecommerce.dto.response.TimeSeriesResponse;
 import com.example.ecommerce.dto.response.TopSellingProductsResponse;
+import com.example.ecommerce.dto.response.TrendingProductsResponse;
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
 import com.example.ecommerce.service.AnalyticsService;
-import com.example.ecommerce.util.builder.ResponseBuilder;
+import com.example.ecommerce.service.analytics.DashboardService;
+import com.example.ecommerce.service.analytics.TrendingProductService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,6 +19,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+
 @RestController
 @RequestMapping("/api/v1/admin/analytics")
 @RequiredArgsConstructor
@@ -21,6 +28,8 @@ import org.springframework.web.bind.annotation.RestController;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final DashboardService dashboardService;
+    private final TrendingProductService trendingProductService;
 
     @GetMapping("/top-products")
     public ResponseEntity<TopSellingProductsResponse> getTopSellingProducts(
@@ -32,6 +41,16 @@ public class AnalyticsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<TrendingProductsResponse> getTrendingProducts(
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "24") int hours) {
+
+        TrendingProductsResponse response =
+                trendingProductService.getTrendingProducts(limit, hours);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/low-stock")
     public ResponseEntity<LowStockResponse> getLowStockProducts(
             @RequestParam(defaultValue = "10") int threshold) {
@@ -49,16 +68,20 @@ public class AnalyticsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/timeseries")
+    public ResponseEntity<TimeSeriesResponse> getTimeSeries(
+            @RequestParam(defaultValue = "HOUR") TimeSeriesGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        TimeSeriesResponse response = analyticsService.getTimeSeries(granularity, from, to);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/dashboard")
     public ResponseEntity<DashboardResponse> getDashboardData() {
 
-        RevenueReport weeklyRevenue = analyticsService.getCurrentWeekRevenue();
-        RevenueReport monthlyRevenue = analyticsService.getCurrentMonthRevenue();
-        TopSellingProductsResponse topProducts = analyticsService.getTopSellingProductsThisMonth();
-        LowStockResponse criticalStock = analyticsService.getCriticalStockProducts();
-
-        DashboardResponse dashboard = ResponseBuilder.createDashboardResponse(
-                weeklyRevenue, monthlyRevenue, topProducts, criticalStock);
+        DashboardResponse dashboard = dashboardService.getDashboard();
 
         return ResponseEntity.ok(dashboard);
     }
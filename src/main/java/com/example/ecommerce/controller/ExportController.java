@@ -0,0 +1,74 @@
+package com.example.ecommerce.controller;
+
+import com.example.ecommerce.datasource.ReplicaRouting;
+import com.example.ecommerce.model.vo.ExportDataset;
+import com.example.ecommerce.model.vo.DataFormat;
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.service.export.ExportService;
+import com.example.ecommerce.util.checker.ExportChecker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/admin/export")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+
+    private final ExportService exportService;
+    private final ExportChecker exportChecker;
+
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam(defaultValue = "NDJSON") DataFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) OrderStatus status) {
+
+        return export(ExportDataset.ORDERS, "orders", format, from, to, status);
+    }
+
+    @GetMapping("/order-items")
+    public ResponseEntity<StreamingResponseBody> exportOrderItems(
+            @RequestParam(defaultValue = "NDJSON") DataFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) OrderStatus status) {
+
+        return export(ExportDataset.ORDER_ITEMS, "order-items", format, from, to, status);
+    }
+
+    @GetMapping("/products")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @RequestParam(defaultValue = "NDJSON") DataFormat format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        return export(ExportDataset.PRODUCTS, "products", format, from, to, null);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(ExportDataset dataset, String fileName, DataFormat format,
+                                                         LocalDateTime from, LocalDateTime to, OrderStatus status) {
+        exportChecker.checkFilters(dataset, from, to, status);
+
+        ReplicaRouting routing = ReplicaRouting.current();
+        StreamingResponseBody body = output -> ReplicaRouting.with(routing,
+                () -> exportService.export(dataset, format, from, to, status, output));
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + fileName + "." + format.getExtension() + "\"")
+                .body(body);
+    }
+}
@@ -1,10 +1,16 @@
 package com.example.ecommerce.controller;
 
+import com.example.ecommerce.dto.request.BatchOrderRequest;
+import com.example.ecommerce.dto.request.BulkCancelRequest;
 import com.example.ecommerce.dto.request.OrderRequest;
 import com.example.ecommerce.dto.response.ApiResponse;
+import com.example.ecommerce.dto.response.BatchOrderResponse;
+import com.example.ecommerce.dto.response.BulkCancelResponse;
+import com.example.ecommerce.dto.response.CursorPage;
 import com.example.ecommerce.dto.response.OrderResponse;
 import com.example.ecommerce.model.vo.OrderStatus;
 import com.example.ecommerce.security.UserPrincipal;
+import com.example.ecommerce.service.OrderIdempotencyService;
 import com.example.ecommerce.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -21,14 +27,23 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
 
     @PostMapping
     public ResponseEntity<OrderResponse> placeOrder(@Valid @RequestBody OrderRequest request,
+                                                    @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
                                                     @AuthenticationPrincipal UserPrincipal currentUser) {
-        OrderResponse order = orderService.placeOrder(request, currentUser.getId());
+        OrderResponse order = orderIdempotencyService.placeOrder(request, currentUser.getId(), idempotencyKey);
         return ResponseEntity.status(HttpStatus.CREATED).body(order);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponse> placeOrders(@Valid @RequestBody BatchOrderRequest request,
+                                                          @AuthenticationPrincipal UserPrincipal currentUser) {
+        BatchOrderResponse response = orderService.placeOrders(request.getOrders(), currentUser.getId());
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     public ResponseEntity<Page<OrderResponse>> getUserOrders(
             @RequestParam(defaultValue = "0") int page,
@@ -49,6 +64,26 @@ public class OrderController {
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<OrderResponse>> getUserOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal UserPrincipal currentUser) {
+
+        CursorPage<OrderResponse> orders = orderService.getUserOrders(currentUser.getId(), cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/all/cursor")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<OrderResponse>> getAllOrdersByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPage<OrderResponse> orders = orderService.getAllOrders(cursor, size);
+        return ResponseEntity.ok(orders);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<OrderResponse> getOrderById(@PathVariable Long id,
                                                       @AuthenticationPrincipal UserPrincipal currentUser) {
@@ -77,4 +112,18 @@ public class OrderController {
         orderService.cancelOrder(id, currentUser.getId());
         return ResponseEntity.ok(ApiResponse.success("Order canceled successfully"));
     }
+
+    @PostMapping("/admin/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkCancelResponse> cancelOrders(@Valid @RequestBody BulkCancelRequest request) {
+        BulkCancelResponse response = orderService.cancelOrders(request.getOrderIds());
+        return ResponseEntity.ok(response);
+    }
+
+    @PutMapping("/admin/users/{userId}/cancel")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkCancelResponse> cancelUserOrders(@PathVariable Long userId) {
+        BulkCancelResponse response = orderService.cancelUserOrders(userId);
+        return ResponseEntity.ok(response);
+    }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.example.ecommerce.controller;
 
 import com.example.ecommerce.dto.request.ProductRequest;
+import com.example.ecommerce.dto.response.CursorPage;
+import com.example.ecommerce.dto.response.FacetedSearchResponse;
+import com.example.ecommerce.dto.response.ProductImportResponse;
 import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.model.vo.DataFormat;
 import com.example.ecommerce.service.ProductService;
+import com.example.ecommerce.service.importer.ProductImportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -20,6 +27,7 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
     @GetMapping
     public ResponseEntity<Page<ProductResponse>> getAllProducts(
@@ -32,6 +40,15 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<ProductResponse>> getAllProductsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        CursorPage<ProductResponse> products = productService.getAllProducts(cursor, size);
+        return ResponseEntity.ok(products);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<Page<ProductResponse>> searchProducts(
             @RequestParam(required = false) String name,
@@ -48,6 +65,23 @@ public class ProductController {
         return ResponseEntity.ok(products);
     }
 
+    @GetMapping("/search/faceted")
+    public ResponseEntity<FacetedSearchResponse> facetedSearch(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "false") boolean inStock,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "name") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        FacetedSearchResponse response = productService.facetedSearch(
+                name, category, minPrice, maxPrice, inStock, page, size, sortBy, sortDir);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
         ProductResponse product = productService.getProductById(id);
@@ -61,6 +95,17 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(product);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductImportResponse> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+
+        ProductImportResponse response = productImportService.importProducts(body,
+                DataFormat.fromContentType(contentType));
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ProductResponse> updateProduct(@PathVariable Long id,
@@ -69,6 +114,14 @@ public class ProductController {
         return ResponseEntity.ok(product);
     }
 
+    @PutMapping("/{id}/stock-shards")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductResponse> configureStockShards(@PathVariable Long id,
+                                                                @RequestParam int shards) {
+        ProductResponse product = productService.configureStockShards(id, shards);
+        return ResponseEntity.ok(product);
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteProduct(@PathVariable Long id) {
@@ -0,0 +1,6 @@
+package com.example.ecommerce.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
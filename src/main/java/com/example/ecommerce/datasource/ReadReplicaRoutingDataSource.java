@@ -0,0 +1,47 @@
+package com.example.ecommerce.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final Map<DataSourceRoute, Counter> routedConnections = new EnumMap<>(DataSourceRoute.class);
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica, MeterRegistry meterRegistry) {
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        for (DataSourceRoute route : DataSourceRoute.values()) {
+            routedConnections.put(route, Counter.builder("datasource.routing.connections")
+                    .tag("route", route.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        DataSourceRoute route = route();
+        routedConnections.get(route).increment();
+        return route;
+    }
+
+    private DataSourceRoute route() {
+        ReplicaRouting routing = ReplicaRouting.current();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (routing != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                routing.requirePrimary();
+            }
+            return DataSourceRoute.PRIMARY;
+        }
+        if (routing == null || routing.isPrimaryRequired()) {
+            return DataSourceRoute.PRIMARY;
+        }
+        return DataSourceRoute.REPLICA;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.ecommerce.datasource;
+
+import lombok.Getter;
+
+import java.util.function.Supplier;
+
+@Getter
+public class ReplicaRouting {
+
+    public static final String CONSISTENCY_HEADER = "X-Read-Consistency";
+    public static final String PRIMARY_CONSISTENCY = "primary";
+
+    private static final ThreadLocal<ReplicaRouting> CURRENT = new ThreadLocal<>();
+
+    private boolean primaryRequired;
+
+    private ReplicaRouting(boolean primaryRequired) {
+        this.primaryRequired = primaryRequired;
+    }
+
+    public static ReplicaRouting start(boolean primaryRequired) {
+        ReplicaRouting routing = new ReplicaRouting(primaryRequired);
+        CURRENT.set(routing);
+        return routing;
+    }
+
+    public static ReplicaRouting current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        return with(new ReplicaRouting(true), action);
+    }
+
+    public static <T> T with(ReplicaRouting routing, Supplier<T> action) {
+        ReplicaRouting previous = CURRENT.get();
+        if (routing != null) {
+            CURRENT.set(routing);
+        } else {
+            CURRENT.remove();
+        }
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public void requirePrimary() {
+        primaryRequired = true;
+    }
+}
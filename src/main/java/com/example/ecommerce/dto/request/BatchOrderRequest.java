@@ -0,0 +1,21 @@
+package com.example.ecommerce.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderRequest {
+
+    @NotEmpty(message = "Orders cannot be empty")
+    @Size(max = 1000, message = "A batch must not exceed 1000 orders")
+    @Valid
+    private List<OrderRequest> orders;
+}
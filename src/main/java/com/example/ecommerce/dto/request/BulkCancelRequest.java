@@ -0,0 +1,19 @@
+package com.example.ecommerce.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCancelRequest {
+
+    @NotEmpty(message = "Order ids cannot be empty")
+    @Size(max = 10000, message = "A bulk cancel must not exceed 10000 orders")
+    private List<Long> orderIds;
+}
@@ -8,6 +8,9 @@ import java.math.BigDecimal;
 @Data
 public class ProductRequest {
 
+    @Size(max = 100, message = "SKU must not exceed 100 characters")
+    private String sku;
+
     @NotBlank(message = "Product name is required")
     @Size(max = 255, message = "Product name must not exceed 255 characters")
     private String name;
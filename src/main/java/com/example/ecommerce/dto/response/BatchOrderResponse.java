@@ -0,0 +1,18 @@
+package com.example.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResponse {
+    private Integer placedOrders;
+    private Integer failedOrders;
+    private List<BatchOrderResult> results;
+}
@@ -0,0 +1,21 @@
+package com.example.ecommerce.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResult {
+    private Integer index;
+    private Boolean success;
+    private String message;
+    private OrderResponse order;
+
+    @JsonIgnore
+    private RuntimeException error;
+}
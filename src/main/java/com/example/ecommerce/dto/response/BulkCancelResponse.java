@@ -0,0 +1,16 @@
+package com.example.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCancelResponse {
+    private Integer requestedOrders;
+    private Integer cancelledOrders;
+    private Integer skippedOrders;
+}
@@ -0,0 +1,21 @@
+package com.example.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+    private Long totalRows;
+    private Long createdProducts;
+    private Long updatedProducts;
+    private Long failedRows;
+    private Long durationMillis;
+    private List<ProductImportError> errors;
+}
@@ -9,12 +9,13 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ProductResponse {
 
     private Long id;
+    private String sku;
     private String name;
     private String description;
     private BigDecimal price;
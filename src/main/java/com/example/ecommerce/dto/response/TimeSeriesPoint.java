@@ -0,0 +1,21 @@
+package com.example.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesPoint {
+    private LocalDateTime bucketStart;
+    private BigDecimal revenue;
+    private Long orders;
+    private Long deliveredOrders;
+    private Long unitsSold;
+}
@@ -0,0 +1,22 @@
+package com.example.ecommerce.dto.response;
+
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TimeSeriesResponse {
+    private TimeSeriesGranularity granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<TimeSeriesPoint> points;
+    private LocalDateTime reportGeneratedAt;
+}
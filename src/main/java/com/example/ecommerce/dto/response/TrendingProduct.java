@@ -0,0 +1,18 @@
+package com.example.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingProduct {
+    private Long productId;
+    private String productName;
+    private Long estimatedSold;
+    private Long minimumSold;
+    private Long maximumSold;
+}
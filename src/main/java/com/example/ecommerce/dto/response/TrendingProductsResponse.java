@@ -0,0 +1,21 @@
+package com.example.ecommerce.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingProductsResponse {
+    private List<TrendingProduct> products;
+    private String period;
+    private Long totalSold;
+    private Long errorBound;
+    private LocalDateTime reportGeneratedAt;
+}
@@ -0,0 +1,87 @@
+package com.example.ecommerce.metrics;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@Getter
+public class RequestMetrics {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final int maxCapturedStatements;
+    private final List<String> statements = new ArrayList<>();
+    private int statementCount;
+    private long ormNanos;
+    private long flushNanos;
+    private long serializationNanos;
+    private boolean headerWritten;
+
+    private RequestMetrics(int maxCapturedStatements) {
+        this.maxCapturedStatements = maxCapturedStatements;
+    }
+
+    public static RequestMetrics start(int maxCapturedStatements) {
+        RequestMetrics metrics = new RequestMetrics(maxCapturedStatements);
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void recordStatement(String sql) {
+        statementCount++;
+        if (statements.size() < maxCapturedStatements) {
+            statements.add(sql);
+        }
+    }
+
+    public void recordOrm(long nanos) {
+        ormNanos += nanos;
+    }
+
+    public void recordFlush(long nanos) {
+        flushNanos += nanos;
+    }
+
+    public void recordSerialization(long nanos) {
+        serializationNanos += nanos;
+    }
+
+    public void markHeaderWritten() {
+        headerWritten = true;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    public long mappingNanos(long elapsedNanos) {
+        return Math.max(0, elapsedNanos - ormNanos - serializationNanos);
+    }
+
+    public String serverTiming() {
+        long elapsed = elapsedNanos();
+        return String.join(", ",
+                entry("orm", ormNanos, statementCount + " statements"),
+                entry("flush", flushNanos, null),
+                entry("mapping", mappingNanos(elapsed), null),
+                entry("total", elapsed, null));
+    }
+
+    private String entry(String name, long nanos, String description) {
+        String entry = name + ";dur=" + String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+        return description == null ? entry : entry + ";desc=\"" + description + "\"";
+    }
+}
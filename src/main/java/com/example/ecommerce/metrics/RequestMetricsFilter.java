@@ -0,0 +1,78 @@
+package com.example.ecommerce.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final Duration slowThreshold;
+    private final int maxCapturedStatements;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, Duration slowThreshold, int maxCapturedStatements) {
+        this.meterRegistry = meterRegistry;
+        this.slowThreshold = slowThreshold;
+        this.maxCapturedStatements = maxCapturedStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.start(maxCapturedStatements);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestMetrics.clear();
+            if (!metrics.isHeaderWritten() && !response.isCommitted()) {
+                response.addHeader(RequestMetrics.SERVER_TIMING, metrics.serverTiming());
+            }
+            record(request, response, metrics);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestMetrics metrics) {
+        long elapsed = metrics.elapsedNanos();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri, "status", String.valueOf(response.getStatus()));
+
+        DistributionSummary.builder("http.server.requests.statements")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(metrics.getStatementCount());
+        timer("http.server.requests.orm", tags).record(Duration.ofNanos(metrics.getOrmNanos()));
+        timer("http.server.requests.mapping", tags).record(Duration.ofNanos(metrics.mappingNanos(elapsed)));
+        timer("http.server.requests.serialization", tags).record(Duration.ofNanos(metrics.getSerializationNanos()));
+
+        if (elapsed >= slowThreshold.toNanos()) {
+            StringBuilder statements = new StringBuilder();
+            for (String sql : metrics.getStatements()) {
+                statements.append("\n  ").append(sql);
+            }
+            log.warn("Slow request {} {} took {} ms ({}), {} statements:{}",
+                    request.getMethod(), uri, elapsed / 1_000_000, metrics.serverTiming(),
+                    metrics.getStatementCount(), statements);
+        }
+    }
+
+    private Timer timer(String name, Tags tags) {
+        return Timer.builder(name)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
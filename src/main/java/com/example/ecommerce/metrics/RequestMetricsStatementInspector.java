@@ -0,0 +1,15 @@
+package com.example.ecommerce.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class RequestMetricsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null) {
+            metrics.recordStatement(sql);
+        }
+        return sql;
+    }
+}
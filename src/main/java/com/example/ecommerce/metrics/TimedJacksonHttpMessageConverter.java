@@ -0,0 +1,36 @@
+package com.example.ecommerce.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        outputMessage.getHeaders().add(RequestMetrics.SERVER_TIMING, metrics.serverTiming());
+        metrics.markHeaderWritten();
+
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            metrics.recordSerialization(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.ecommerce.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "revenue_rollups_daily")
+@NoArgsConstructor
+public class DailyRevenueRollup extends RevenueRollup {
+}
@@ -3,6 +3,7 @@ package com.example.ecommerce.model;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Formula;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -18,12 +19,16 @@ import java.util.List;
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "products_id_seq", allocationSize = 50)
     private Long id;
 
     @Version
     private Long version;
 
+    @Column(length = 100, unique = true)
+    private String sku;
+
     @Column(nullable = false, length = 200)
     private String name;
 
@@ -37,6 +42,15 @@ public class Product extends BaseEntity {
     @Builder.Default
     private Integer stock = 0;
 
+    @Column(name = "stock_shards", nullable = false)
+    @Builder.Default
+    private Integer stockShards = 0;
+
+    @Formula("CASE WHEN stock_shards > 1 " +
+            "THEN (SELECT COALESCE(SUM(s.stock), 0) FROM product_stock_shards s WHERE s.product_id = id) " +
+            "ELSE stock END")
+    private Integer availableStock;
+
     @Column(length = 100)
     private String category;
 
@@ -48,6 +62,14 @@ public class Product extends BaseEntity {
     @Builder.Default
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    public Integer getStock() {
+        return isStockSharded() && availableStock != null ? availableStock : stock;
+    }
+
+    public boolean isStockSharded() {
+        return stockShards != null && stockShards > 1;
+    }
+
     public void decreaseStock(int quantity) {
         if (this.stock < quantity) {
             throw new IllegalStateException("Insufficient stock. Available: " + this.stock + ", Requested: " + quantity);
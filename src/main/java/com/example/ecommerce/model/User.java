@@ -1,6 +1,7 @@
 package com.example.ecommerce.model;
 
 import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.service.invalidation.UserInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
@@ -10,6 +11,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserInvalidationListener.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @SuperBuilder
@@ -18,7 +20,8 @@ import java.util.List;
 public class User extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 100)
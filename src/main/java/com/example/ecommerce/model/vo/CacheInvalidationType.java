@@ -0,0 +1,5 @@
+package com.example.ecommerce.model.vo;
+
+public enum CacheInvalidationType {
+    PRODUCT, CATEGORY, USER, ALL
+}
@@ -0,0 +1,5 @@
+package com.example.ecommerce.model.vo;
+
+public enum OutboxAggregateType {
+    ORDER, PRODUCT
+}
@@ -0,0 +1,5 @@
+package com.example.ecommerce.model.vo;
+
+public enum OutboxEventType {
+    ORDER_PLACED, ORDER_STATUS_CHANGED, ORDER_CANCELLED, PRODUCT_UPDATED, STOCK_RELEASED
+}
@@ -0,0 +1,53 @@
+package com.example.ecommerce.repository;
+
+import com.example.ecommerce.model.DailyRevenueRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DailyRevenueRollupRepository extends JpaRepository<DailyRevenueRollup, LocalDateTime> {
+
+    @Query("SELECT COALESCE(SUM(r.revenue), 0), COALESCE(SUM(r.orderCount), 0), COALESCE(SUM(r.deliveredCount), 0), " +
+            "COALESCE(SUM(r.unitsSold), 0) " +
+            "FROM DailyRevenueRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    List<Object[]> sumBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM DailyRevenueRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<DailyRevenueRollup> findSeries(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "MERGE INTO revenue_rollups_daily r " +
+            "USING (SELECT CAST(:bucketStart AS TIMESTAMP) AS bucket_start, CAST(:revenue AS NUMERIC(14, 2)) AS revenue, " +
+            "CAST(:orderCount AS BIGINT) AS order_count, CAST(:deliveredCount AS BIGINT) AS delivered_count, " +
+            "CAST(:unitsSold AS BIGINT) AS units_sold) s " +
+            "ON r.bucket_start = s.bucket_start " +
+            "WHEN MATCHED THEN UPDATE SET revenue = r.revenue + s.revenue, " +
+            "order_count = r.order_count + s.order_count, delivered_count = r.delivered_count + s.delivered_count, " +
+            "units_sold = r.units_sold + s.units_sold " +
+            "WHEN NOT MATCHED THEN INSERT (bucket_start, revenue, order_count, delivered_count, units_sold) " +
+            "VALUES (s.bucket_start, s.revenue, s.order_count, s.delivered_count, s.units_sold)", nativeQuery = true)
+    int addToBucket(@Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("revenue") BigDecimal revenue,
+                    @Param("orderCount") long orderCount,
+                    @Param("deliveredCount") long deliveredCount,
+                    @Param("unitsSold") long unitsSold);
+
+    @Modifying
+    @Query("DELETE FROM DailyRevenueRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "INSERT INTO revenue_rollups_daily (bucket_start, revenue, order_count, delivered_count, units_sold) " +
+            "SELECT DATE_TRUNC('DAY', h.bucket_start), SUM(h.revenue), SUM(h.order_count), SUM(h.delivered_count), " +
+            "SUM(h.units_sold) " +
+            "FROM revenue_rollups_hourly h WHERE h.bucket_start >= :from AND h.bucket_start < :to " +
+            "GROUP BY DATE_TRUNC('DAY', h.bucket_start)", nativeQuery = true)
+    int rebuildFromHourly(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,64 @@
+package com.example.ecommerce.repository;
+
+import com.example.ecommerce.model.HourlyRevenueRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface HourlyRevenueRollupRepository extends JpaRepository<HourlyRevenueRollup, LocalDateTime> {
+
+    @Query("SELECT COALESCE(SUM(r.revenue), 0), COALESCE(SUM(r.orderCount), 0), COALESCE(SUM(r.deliveredCount), 0), " +
+            "COALESCE(SUM(r.unitsSold), 0) " +
+            "FROM HourlyRevenueRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    List<Object[]> sumBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT r FROM HourlyRevenueRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to ORDER BY r.bucketStart")
+    List<HourlyRevenueRollup> findSeries(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "MERGE INTO revenue_rollups_hourly r " +
+            "USING (SELECT CAST(:bucketStart AS TIMESTAMP) AS bucket_start, CAST(:revenue AS NUMERIC(14, 2)) AS revenue, " +
+            "CAST(:orderCount AS BIGINT) AS order_count, CAST(:deliveredCount AS BIGINT) AS delivered_count, " +
+            "CAST(:unitsSold AS BIGINT) AS units_sold) s " +
+            "ON r.bucket_start = s.bucket_start " +
+            "WHEN MATCHED THEN UPDATE SET revenue = r.revenue + s.revenue, " +
+            "order_count = r.order_count + s.order_count, delivered_count = r.delivered_count + s.delivered_count, " +
+            "units_sold = r.units_sold + s.units_sold " +
+            "WHEN NOT MATCHED THEN INSERT (bucket_start, revenue, order_count, delivered_count, units_sold) " +
+            "VALUES (s.bucket_start, s.revenue, s.order_count, s.delivered_count, s.units_sold)", nativeQuery = true)
+    int addToBucket(@Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("revenue") BigDecimal revenue,
+                    @Param("orderCount") long orderCount,
+                    @Param("deliveredCount") long deliveredCount,
+                    @Param("unitsSold") long unitsSold);
+
+    @Modifying
+    @Query("DELETE FROM HourlyRevenueRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :to")
+    int deleteBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "INSERT INTO revenue_rollups_hourly (bucket_start, revenue, order_count, delivered_count, units_sold) " +
+            "SELECT DATE_TRUNC('HOUR', o.created_at), " +
+            "SUM(CASE WHEN o.status = 'DELIVERED' THEN o.total ELSE 0 END), COUNT(*), " +
+            "SUM(CASE WHEN o.status = 'DELIVERED' THEN 1 ELSE 0 END), 0 " +
+            "FROM orders o WHERE o.created_at >= :from AND o.created_at < :to " +
+            "GROUP BY DATE_TRUNC('HOUR', o.created_at)", nativeQuery = true)
+    int rebuildFromOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "MERGE INTO revenue_rollups_hourly r " +
+            "USING (SELECT DATE_TRUNC('HOUR', o.created_at) AS bucket_start, SUM(oi.quantity) AS units_sold " +
+            "FROM order_items oi JOIN orders o ON o.id = oi.order_id " +
+            "WHERE o.status = 'DELIVERED' AND o.created_at >= :from AND o.created_at < :to " +
+            "GROUP BY DATE_TRUNC('HOUR', o.created_at)) s " +
+            "ON r.bucket_start = s.bucket_start " +
+            "WHEN MATCHED THEN UPDATE SET units_sold = s.units_sold", nativeQuery = true)
+    int rebuildUnitsFromOrders(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,23 +1,36 @@
 package com.example.ecommerce.repository;
 
+import com.example.ecommerce.dto.response.TopSellingProduct;
 import com.example.ecommerce.model.OrderItem;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
 
-    @Query("SELECT oi.product.id, oi.product.name, SUM(oi.quantity) as totalSold, SUM(oi.price * oi.quantity) as totalRevenue " +
-            "FROM OrderItem oi " +
-            "WHERE oi.order.status = 'DELIVERED' " +
-            "AND oi.order.createdAt BETWEEN :startDate AND :endDate " +
-            "GROUP BY oi.product.id, oi.product.name " +
-            "ORDER BY totalSold DESC")
-    List<Object[]> findTopSellingProducts(@Param("startDate") LocalDateTime startDate,
-                                          @Param("endDate") LocalDateTime endDate);
+    @Query("SELECT new com.example.ecommerce.dto.response.TopSellingProduct(" +
+            "p.id, p.name, SUM(oi.quantity), SUM(oi.price * oi.quantity)) " +
+            "FROM OrderItem oi JOIN oi.order o JOIN oi.product p " +
+            "WHERE o.status = 'DELIVERED' " +
+            "AND o.createdAt BETWEEN :startDate AND :endDate " +
+            "GROUP BY p.id, p.name " +
+            "ORDER BY SUM(oi.quantity) DESC, p.id")
+    List<TopSellingProduct> findTopSellingProducts(@Param("startDate") LocalDateTime startDate,
+                                                   @Param("endDate") LocalDateTime endDate,
+                                                   Pageable pageable);
+
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product WHERE oi.order.id IN :orderIds ORDER BY oi.id")
+    List<OrderItem> findAllByOrderIdInWithProduct(@Param("orderIds") Collection<Long> orderIds);
+
+    @Query("SELECT oi.product.id, SUM(oi.quantity) FROM OrderItem oi " +
+            "WHERE oi.order.id IN :orderIds " +
+            "GROUP BY oi.product.id")
+    List<Object[]> sumQuantitiesByProduct(@Param("orderIds") Collection<Long> orderIds);
 }
\ No newline at end of file
@@ -1,33 +1,101 @@
 package com.example.ecommerce.repository;
 
 import com.example.ecommerce.model.Order;
+import com.example.ecommerce.model.vo.OrderStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, Long> {
 
+    @EntityGraph(attributePaths = "user")
     Page<Order> findByUserId(Long userId, Pageable pageable);
 
-    @Query("SELECT SUM(o.total) FROM Order o WHERE o.status = 'DELIVERED' AND o.createdAt BETWEEN :startDate AND :endDate")
-    BigDecimal calculateRevenueForPeriod(@Param("startDate") LocalDateTime startDate,
-                                         @Param("endDate") LocalDateTime endDate);
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Order> findAll(Pageable pageable);
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt >= :startDate")
-    long countOrdersSince(@Param("startDate") LocalDateTime startDate);
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT o FROM Order o ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findFirstByCreatedAt(Pageable pageable);
 
-    @Query("SELECT o FROM Order o JOIN FETCH o.items WHERE o.id = :id")
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT o FROM Order o " +
+            "WHERE (o.createdAt, o.id) < (:createdAt, :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findByCreatedAtBeforeCursor(@Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findFirstByUserIdByCreatedAt(@Param("userId") Long userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT o FROM Order o WHERE o.user.id = :userId " +
+            "AND (o.createdAt, o.id) < (:createdAt, :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<Order> findByUserIdAndCreatedAtBeforeCursor(@Param("userId") Long userId,
+                                                     @Param("createdAt") LocalDateTime createdAt,
+                                                     @Param("id") Long id,
+                                                     Pageable pageable);
+
+    @Query("SELECT COALESCE(SUM(CASE WHEN o.status = 'DELIVERED' THEN o.total ELSE 0 END), 0), COUNT(o), " +
+            "COALESCE(SUM(CASE WHEN o.status = 'DELIVERED' THEN 1 ELSE 0 END), 0), " +
+            "(SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.order.status = 'DELIVERED' " +
+            "AND oi.order.createdAt >= :startDate AND oi.order.createdAt < :endDate) " +
+            "FROM Order o WHERE o.createdAt >= :startDate AND o.createdAt < :endDate")
+    List<Object[]> summarizeRevenueBetween(@Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT DISTINCT o FROM Order o JOIN FETCH o.user LEFT JOIN FETCH o.items i LEFT JOIN FETCH i.product " +
+            "WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") Long id);
 
-    @Query("SELECT COUNT(o) FROM Order o WHERE o.status = 'DELIVERED' AND o.createdAt BETWEEN :startDate AND :endDate")
-    Long countDeliveredOrdersBetween(@Param("startDate") LocalDateTime startDate,
-                                     @Param("endDate") LocalDateTime endDate);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids AND o.status IN :statuses ORDER BY o.id")
+    List<Order> findAllByIdAndStatusForUpdate(@Param("ids") Collection<Long> ids,
+                                              @Param("statuses") Collection<OrderStatus> statuses);
+
+    @Query("SELECT o.id FROM Order o WHERE o.user.id = :userId AND o.status IN :statuses ORDER BY o.id")
+    List<Long> findIdsByUserIdAndStatus(@Param("userId") Long userId,
+                                        @Param("statuses") Collection<OrderStatus> statuses);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.status = :status, o.updatedAt = :updatedAt " +
+            "WHERE o.id IN :ids AND o.status IN :expected")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("expected") Collection<OrderStatus> expected,
+                     @Param("status") OrderStatus status,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("SELECT o.id, o.createdAt FROM Order o WHERE o.status = :status AND o.createdAt < :cutoff " +
+            "AND (o.createdAt, o.id) > (:afterCreatedAt, :afterId) " +
+            "ORDER BY o.createdAt, o.id")
+    List<Object[]> findIdsByStatusCreatedBeforeAfterCursor(@Param("status") OrderStatus status,
+                                                           @Param("cutoff") LocalDateTime cutoff,
+                                                           @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+                                                           @Param("afterId") Long afterId,
+                                                           Pageable pageable);
+
+    @Query("SELECT MIN(o.createdAt) FROM Order o WHERE o.status = :status AND o.createdAt < :cutoff")
+    LocalDateTime findOldestCreatedAtByStatusBefore(@Param("status") OrderStatus status,
+                                                    @Param("cutoff") LocalDateTime cutoff);
 }
\ No newline at end of file
@@ -11,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,6 +20,16 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.isActive = true")
     Page<Product> findAllActive(Pageable pageable);
 
+    @Query("SELECT p FROM Product p WHERE p.isActive = true ORDER BY p.name, p.id")
+    List<Product> findFirstActiveByName(Pageable pageable);
+
+    @Query("SELECT p FROM Product p WHERE p.isActive = true " +
+            "AND (p.name, p.id) > (:name, :id) " +
+            "ORDER BY p.name, p.id")
+    List<Product> findActiveByNameAfterCursor(@Param("name") String name,
+                                              @Param("id") Long id,
+                                              Pageable pageable);
+
     @Query("SELECT p FROM Product p WHERE p.category = :category AND p.isActive = true")
     Page<Product> findByCategoryAndActive(@Param("category") String category, Pageable pageable);
 
@@ -30,13 +41,42 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
                                               @Param("maxPrice") BigDecimal maxPrice,
                                               Pageable pageable);
 
+    @Query(value = "SELECT p.id FROM products p, websearch_to_tsquery('english', :query) q " +
+            "WHERE p.is_active = true AND p.search_vector @@ q " +
+            "ORDER BY ts_rank(p.search_vector, q) DESC, p.id " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> searchIdsByFullText(@Param("query") String query,
+                                   @Param("limit") int limit,
+                                   @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) FROM products p " +
+            "WHERE p.is_active = true AND p.search_vector @@ websearch_to_tsquery('english', :query)",
+            nativeQuery = true)
+    long countByFullText(@Param("query") String query);
+
+    List<Product> findAllBySkuIn(Collection<String> skus);
+
+    boolean existsBySku(String sku);
+
+    boolean existsBySkuAndIdNot(String sku, Long id);
+
     @Lock(LockModeType.OPTIMISTIC)
     @Query("SELECT p FROM Product p WHERE p.id IN :ids")
     List<Product> findAllByIdWithLock(@Param("ids") List<Long> ids);
 
-    @Query("SELECT p FROM Product p WHERE p.stock <= :threshold AND p.isActive = true ORDER BY p.stock ASC")
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.id IN :ids ORDER BY p.id")
+    List<Product> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p FROM Product p WHERE p.availableStock <= :threshold AND p.isActive = true ORDER BY p.availableStock ASC")
     List<Product> findLowStockProducts(@Param("threshold") Integer threshold);
 
+    @Query("SELECT p.id, p.availableStock FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findAvailableStockByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT p.id, p.stock, p.version FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findStockAndVersionByIds(@Param("ids") Collection<Long> ids);
+
     @Query("SELECT DISTINCT p.category FROM Product p WHERE p.category IS NOT NULL AND p.isActive = true ORDER BY p.category")
     List<String> findAllCategories();
 
@@ -0,0 +1,34 @@
+package com.example.ecommerce.repository;
+
+import com.example.ecommerce.model.ProductStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.product.id = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.stock = s.stock - :quantity " +
+            "WHERE s.product.id = :productId AND s.shardNo = :shardNo AND s.stock >= :quantity")
+    int decreaseStock(@Param("productId") Long productId,
+                      @Param("shardNo") Integer shardNo,
+                      @Param("quantity") Integer quantity);
+
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.stock = s.stock + :quantity " +
+            "WHERE s.product.id = :productId AND s.shardNo = :shardNo")
+    int increaseStock(@Param("productId") Long productId,
+                      @Param("shardNo") Integer shardNo,
+                      @Param("quantity") Integer quantity);
+}
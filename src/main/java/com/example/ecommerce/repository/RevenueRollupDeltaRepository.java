@@ -0,0 +1,23 @@
+package com.example.ecommerce.repository;
+
+import com.example.ecommerce.model.RevenueRollupDelta;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevenueRollupDeltaRepository extends JpaRepository<RevenueRollupDelta, Long> {
+
+    @Query("SELECT d FROM RevenueRollupDelta d ORDER BY d.id")
+    List<RevenueRollupDelta> findBatch(Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM RevenueRollupDelta d WHERE d.bucketStart >= :from AND d.bucketStart < :to")
+    int deleteBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -2,12 +2,17 @@ package com.example.ecommerce.service;
 
 import com.example.ecommerce.dto.response.*;
 import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
 import com.example.ecommerce.repository.OrderItemRepository;
-import com.example.ecommerce.repository.OrderRepository;
 import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.analytics.RevenueRollupService;
+import com.example.ecommerce.service.analytics.RevenueTotals;
 import com.example.ecommerce.util.builder.ResponseBuilder;
+import com.example.ecommerce.util.checker.AnalyticsChecker;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -17,30 +22,23 @@ import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class AnalyticsService {
 
-    private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final ProductRepository productRepository;
+    private final AnalyticsChecker analyticsChecker;
+    private final RevenueRollupService revenueRollupService;
 
     public TopSellingProductsResponse getTopSellingProducts(int limit, int days) {
 
         LocalDateTime startDate = LocalDateTime.now().minusDays(days);
         LocalDateTime endDate = LocalDateTime.now();
 
-        List<Object[]> rawResults = orderItemRepository.findTopSellingProducts(startDate, endDate);
+        analyticsChecker.checkLimit(limit);
 
-        List<TopSellingProduct> topProducts = rawResults.stream()
-                .limit(limit)
-                .map(result -> {
-                    Long productId = ((Number) result[0]).longValue();
-                    String productName = (String) result[1];
-                    Long totalSold = ((Number) result[2]).longValue();
-                    BigDecimal totalRevenue = (BigDecimal) result[3];
-
-                    return ResponseBuilder.createTopSellingProduct(productId, productName, totalSold, totalRevenue);
-                })
-                .collect(Collectors.toList());
+        List<TopSellingProduct> topProducts = orderItemRepository.findTopSellingProducts(startDate, endDate,
+                PageRequest.of(0, limit));
 
         return ResponseBuilder.createTopSellingProductsResponse(topProducts, days);
     }
@@ -61,14 +59,11 @@ public class AnalyticsService {
         LocalDateTime startDate = LocalDateTime.now().minusDays(days);
         LocalDateTime endDate = LocalDateTime.now();
 
-        BigDecimal totalRevenue = orderRepository.calculateRevenueForPeriod(startDate, endDate);
-        if (totalRevenue == null) {
-            totalRevenue = BigDecimal.ZERO;
-        }
+        RevenueTotals totals = revenueRollupService.summarize(startDate, endDate);
 
-        Long totalOrders = orderRepository.countOrdersSince(startDate);
-
-        Long deliveredOrders = orderRepository.countDeliveredOrdersBetween(startDate, endDate);
+        BigDecimal totalRevenue = totals.revenue();
+        Long totalOrders = totals.orderCount();
+        Long deliveredOrders = totals.deliveredCount();
 
         BigDecimal averageOrderValue = deliveredOrders > 0 ?
                 totalRevenue.divide(BigDecimal.valueOf(deliveredOrders), 2, RoundingMode.HALF_UP) :
@@ -77,6 +72,20 @@ public class AnalyticsService {
         return ResponseBuilder.createRevenueReport(totalRevenue, totalOrders, deliveredOrders, averageOrderValue, days);
     }
 
+    public TimeSeriesResponse getTimeSeries(TimeSeriesGranularity granularity, LocalDateTime from, LocalDateTime to) {
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minus(granularity.getDefaultSpan());
+        analyticsChecker.checkTimeSeries(granularity, start, end, revenueRollupService.getMinuteRetentionDays());
+
+        LocalDateTime firstBucket = start.truncatedTo(granularity.getUnit());
+        LocalDateTime lastBucket = end.truncatedTo(granularity.getUnit());
+        LocalDateTime endBucket = lastBucket.equals(end) ? end : lastBucket.plus(1, granularity.getUnit());
+
+        List<TimeSeriesPoint> points = revenueRollupService.getSeries(granularity, firstBucket, endBucket);
+        return ResponseBuilder.createTimeSeriesResponse(granularity, firstBucket, endBucket, points);
+    }
+
     public RevenueReport getCurrentWeekRevenue() {
         return getRevenueReport(7);
     }
@@ -0,0 +1,126 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Slf4j
+public class OrderExpiryService {
+
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final boolean enabled;
+    private final Duration pendingTtl;
+    private final int chunkSize;
+    private final int maxOrdersPerSecond;
+    private final Counter expiredCounter;
+    private final Timer chunkTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OrderExpiryService(OrderRepository orderRepository,
+                              OrderService orderService,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.order-expiry.enabled:true}") boolean enabled,
+                              @Value("${app.order-expiry.pending-ttl-minutes:30}") long pendingTtlMinutes,
+                              @Value("${app.order-expiry.chunk-size:200}") int chunkSize,
+                              @Value("${app.order-expiry.max-orders-per-second:500}") int maxOrdersPerSecond) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.enabled = enabled;
+        this.pendingTtl = Duration.ofMinutes(pendingTtlMinutes);
+        this.chunkSize = chunkSize;
+        this.maxOrdersPerSecond = maxOrdersPerSecond;
+        this.expiredCounter = meterRegistry.counter("orders.expiry.expired");
+        this.chunkTimer = meterRegistry.timer("orders.expiry.chunk");
+        meterRegistry.gauge("orders.expiry.lag.seconds", lagSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${app.order-expiry.interval-ms:60000}")
+    public void expirePendingOrders() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(pendingTtl);
+        LocalDateTime afterCreatedAt = CURSOR_START;
+        Long afterId = 0L;
+        int expired = 0;
+
+        while (true) {
+            List<Object[]> chunk = orderRepository.findIdsByStatusCreatedBeforeAfterCursor(
+                    OrderStatus.PENDING, cutoff, afterCreatedAt, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            Object[] last = chunk.get(chunk.size() - 1);
+            afterId = (Long) last[0];
+            afterCreatedAt = (LocalDateTime) last[1];
+
+            List<Long> orderIds = chunk.stream().map(row -> (Long) row[0]).toList();
+            long started = System.nanoTime();
+            try {
+                int count = orderService.expirePendingOrders(orderIds);
+                expired += count;
+                expiredCounter.increment(count);
+            } catch (RuntimeException ex) {
+                log.warn("Expiring {} pending orders failed, retrying on next run", orderIds.size(), ex);
+                break;
+            } finally {
+                chunkTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+
+            if (!throttle(orderIds.size(), started)) {
+                break;
+            }
+        }
+
+        updateLag(cutoff);
+        if (expired > 0) {
+            log.info("Expired {} pending orders created before {}", expired, cutoff);
+        }
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds.get();
+    }
+
+    private boolean throttle(int processed, long startedNanos) {
+        if (maxOrdersPerSecond <= 0) {
+            return true;
+        }
+        long budgetNanos = TimeUnit.SECONDS.toNanos(processed) / maxOrdersPerSecond;
+        long remainingNanos = budgetNanos - (System.nanoTime() - startedNanos);
+        if (remainingNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void updateLag(LocalDateTime cutoff) {
+        LocalDateTime oldest = orderRepository.findOldestCreatedAtByStatusBefore(OrderStatus.PENDING, cutoff);
+        lagSeconds.set(oldest != null ? Duration.between(oldest, cutoff).getSeconds() : 0);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.exception.ResourceAlreadyExistsException;
+import com.example.ecommerce.model.OrderIdempotencyKey;
+import com.example.ecommerce.repository.OrderIdempotencyKeyRepository;
+import com.example.ecommerce.util.checker.OrderChecker;
+import com.example.ecommerce.util.generator.RequestHashGenerator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+@Service
+@Slf4j
+public class OrderIdempotencyService {
+
+    private final OrderIntakeService orderIntakeService;
+    private final OrderService orderService;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final OrderChecker orderChecker;
+    private final Duration retention;
+    private final Cache<String, StoredResponse> responses;
+    private final ConcurrentMap<String, PendingResponse> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(OrderIntakeService orderIntakeService,
+                                   OrderService orderService,
+                                   OrderIdempotencyKeyRepository idempotencyKeyRepository,
+                                   OrderChecker orderChecker,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.order-idempotency.cache-size:100000}") long cacheSize,
+                                   @Value("${app.order-idempotency.cache-ttl-minutes:10}") long cacheTtlMinutes,
+                                   @Value("${app.order-idempotency.retention-hours:24}") long retentionHours) {
+        this.orderIntakeService = orderIntakeService;
+        this.orderService = orderService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.orderChecker = orderChecker;
+        this.retention = Duration.ofHours(retentionHours);
+        this.responses = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMinutes(cacheTtlMinutes))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "orders.idempotency");
+    }
+
+    public OrderResponse placeOrder(OrderRequest request, Long userId, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return orderIntakeService.placeOrder(request, userId, null);
+        }
+
+        orderChecker.checkIdempotencyKey(idempotencyKey);
+
+        String requestHash = RequestHashGenerator.hash(request);
+        String cacheKey = userId + ":" + idempotencyKey;
+        StoredResponse cached = responses.getIfPresent(cacheKey);
+        if (cached != null) {
+            orderChecker.checkSameIdempotentRequest(cached.requestHash(), requestHash, idempotencyKey);
+            return cached.response();
+        }
+
+        PendingResponse pending = new PendingResponse(requestHash, new CompletableFuture<>());
+        PendingResponse existing = inFlight.putIfAbsent(cacheKey, pending);
+        if (existing != null) {
+            orderChecker.checkSameIdempotentRequest(existing.requestHash(), requestHash, idempotencyKey);
+            return await(existing.future());
+        }
+
+        try {
+            OrderResponse response = resolve(request, requestHash, userId, idempotencyKey);
+            responses.put(cacheKey, new StoredResponse(requestHash, response));
+            pending.future().complete(response);
+            return response;
+        } catch (RuntimeException ex) {
+            pending.future().completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(cacheKey, pending);
+        }
+    }
+
+    @Scheduled(cron = "${app.order-idempotency.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        int purged = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("Purged {} expired order idempotency keys", purged);
+        }
+    }
+
+    private OrderResponse resolve(OrderRequest request, String requestHash, Long userId, String idempotencyKey) {
+        return idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .map(stored -> replay(stored, requestHash, userId))
+                .orElseGet(() -> place(request, requestHash, userId, idempotencyKey));
+    }
+
+    private OrderResponse place(OrderRequest request, String requestHash, Long userId, String idempotencyKey) {
+        try {
+            return orderIntakeService.placeOrder(request, userId, idempotencyKey);
+        } catch (DataIntegrityViolationException | ResourceAlreadyExistsException ex) {
+            return idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .map(stored -> replay(stored, requestHash, userId))
+                    .orElseThrow(() -> ex);
+        }
+    }
+
+    private OrderResponse replay(OrderIdempotencyKey stored, String requestHash, Long userId) {
+        orderChecker.checkSameIdempotentRequest(stored.getRequestHash(), requestHash, stored.getIdempotencyKey());
+        return orderService.getOrderById(stored.getOrderId(), userId);
+    }
+
+    private OrderResponse await(CompletableFuture<OrderResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private record StoredResponse(String requestHash, OrderResponse response) {
+    }
+
+    private record PendingResponse(String requestHash, CompletableFuture<OrderResponse> future) {
+    }
+}
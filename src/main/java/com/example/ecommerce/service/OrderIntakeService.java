@@ -0,0 +1,182 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.BatchOrderResult;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.exception.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+@Slf4j
+public class OrderIntakeService {
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final OrderService orderService;
+    private final boolean groupCommit;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final int writers;
+    private final long responseTimeoutMillis;
+    private final BlockingQueue<PendingOrder> queue;
+
+    private volatile boolean running;
+    private ExecutorService writerPool;
+
+    public OrderIntakeService(OrderService orderService,
+                              @Value("${app.order-intake.group-commit:false}") boolean groupCommit,
+                              @Value("${app.order-intake.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.order-intake.max-batch-size:50}") int maxBatchSize,
+                              @Value("${app.order-intake.max-wait-ms:5}") long maxWaitMillis,
+                              @Value("${app.order-intake.writers:4}") int writers,
+                              @Value("${app.order-intake.response-timeout-ms:10000}") long responseTimeoutMillis) {
+        this.orderService = orderService;
+        this.groupCommit = groupCommit;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.writers = writers;
+        this.responseTimeoutMillis = responseTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!groupCommit) {
+            return;
+        }
+        running = true;
+        writerPool = Executors.newFixedThreadPool(writers, new CustomizableThreadFactory("order-intake-"));
+        for (int i = 0; i < writers; i++) {
+            writerPool.submit(this::drain);
+        }
+        log.info("Group-commit order intake started with {} writers", writers);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (writerPool == null) {
+            return;
+        }
+        running = false;
+        writerPool.shutdownNow();
+        List<PendingOrder> abandoned = new ArrayList<>();
+        queue.drainTo(abandoned);
+        abandoned.forEach(pending -> pending.future.completeExceptionally(
+                new ServiceUnavailableException("Order intake is shutting down")));
+    }
+
+    public OrderResponse placeOrder(OrderRequest request, Long userId, String idempotencyKey) {
+        if (!groupCommit) {
+            return orderService.placeOrder(request, userId, idempotencyKey);
+        }
+
+        try {
+            return submit(request, userId, idempotencyKey).copy()
+                    .orTimeout(responseTimeoutMillis, TimeUnit.MILLISECONDS)
+                    .join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new ServiceUnavailableException(
+                        "Order intake did not respond in time. Retry with the same Idempotency-Key.");
+            }
+            throw ex;
+        }
+    }
+
+    public CompletableFuture<OrderResponse> submit(OrderRequest request, Long userId, String idempotencyKey) {
+        PendingOrder pending = new PendingOrder(request, userId, idempotencyKey);
+        if (!running || !queue.offer(pending)) {
+            throw new ServiceUnavailableException("Order intake is at capacity. Please retry shortly.");
+        }
+        return pending.future;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void drain() {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        while (running) {
+            try {
+                PendingOrder first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingOrder next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                commit(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                batch.forEach(pending -> pending.future.completeExceptionally(
+                        new ServiceUnavailableException("Order intake is shutting down")));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<OrderRequest> requests = batch.stream().map(pending -> pending.request).toList();
+        List<Long> userIds = batch.stream().map(pending -> pending.userId).toList();
+        List<String> idempotencyKeys = batch.stream().map(pending -> pending.idempotencyKey).toList();
+
+        try {
+            List<BatchOrderResult> results = orderService.placeGroupedOrders(requests, userIds, idempotencyKeys);
+            for (int i = 0; i < batch.size(); i++) {
+                BatchOrderResult result = results.get(i);
+                if (result.getSuccess()) {
+                    batch.get(i).future.complete(result.getOrder());
+                } else {
+                    batch.get(i).future.completeExceptionally(result.getError());
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.error("Group commit of {} orders failed", batch.size(), ex);
+            batch.forEach(pending -> pending.future.completeExceptionally(ex));
+        }
+    }
+
+    private static final class PendingOrder {
+        private final OrderRequest request;
+        private final Long userId;
+        private final String idempotencyKey;
+        private final CompletableFuture<OrderResponse> future = new CompletableFuture<>();
+
+        private PendingOrder(OrderRequest request, Long userId, String idempotencyKey) {
+            this.request = request;
+            this.userId = userId;
+            this.idempotencyKey = idempotencyKey;
+        }
+    }
+}
@@ -2,21 +2,40 @@ package com.example.ecommerce.service;
 
 import com.example.ecommerce.dto.request.OrderItemRequest;
 import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.BatchOrderResponse;
+import com.example.ecommerce.dto.response.BatchOrderResult;
+import com.example.ecommerce.dto.response.BulkCancelResponse;
+import com.example.ecommerce.dto.response.CursorPage;
 import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.exception.InsufficientStockException;
+import com.example.ecommerce.exception.ResourceAlreadyExistsException;
+import com.example.ecommerce.exception.ResourceNotFoundException;
 import com.example.ecommerce.model.Order;
+import com.example.ecommerce.model.OrderIdempotencyKey;
 import com.example.ecommerce.model.OrderItem;
 import com.example.ecommerce.model.Product;
 import com.example.ecommerce.model.User;
 import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.repository.OrderIdempotencyKeyRepository;
+import com.example.ecommerce.repository.OrderItemRepository;
 import com.example.ecommerce.repository.OrderRepository;
 import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import com.example.ecommerce.service.analytics.RevenueRollupService;
+import com.example.ecommerce.service.analytics.TrendingProductService;
+import com.example.ecommerce.service.outbox.OutboxService;
 import com.example.ecommerce.util.builder.OrderBuilder;
 import com.example.ecommerce.util.builder.OrderItemBuilder;
 import com.example.ecommerce.util.builder.ResponseBuilder;
 import com.example.ecommerce.util.checker.OrderChecker;
+import com.example.ecommerce.util.cursor.Cursor;
+import com.example.ecommerce.util.cursor.CursorCodec;
+import com.example.ecommerce.util.generator.OrderNumberGenerator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -26,8 +45,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,22 +63,37 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final List<OrderStatus> CANCELLABLE_STATUSES = List.of(OrderStatus.PENDING, OrderStatus.CONFIRMED);
+    private static final int CANCEL_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
+    private final OrderItemRepository orderItemRepository;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
     private final ProductRepository productRepository;
+    private final UserRepository userRepository;
     private final OrderChecker orderChecker;
+    private final StockReservationService stockReservationService;
+    private final StockShardService stockShardService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OutboxService outboxService;
+    private final RevenueRollupService revenueRollupService;
+    private final TrendingProductService trendingProductService;
 
     @Transactional
     @Retryable(retryFor = {OptimisticLockingFailureException.class},
-            backoff = @Backoff(delay = 100))
-    public OrderResponse placeOrder(OrderRequest request, Long userId) {
+            maxAttempts = StockReservationService.MAX_ATTEMPTS,
+            backoff = @Backoff(delay = 100),
+            listeners = "stockReservationMetrics")
+    public OrderResponse placeOrder(OrderRequest request, Long userId, String idempotencyKey) {
 
         User user = orderChecker.checkUserExists(userId);
+        if (idempotencyKey != null) {
+            userRepository.findAllByIdForUpdate(List.of(userId));
+        }
 
-        List<Long> productIds = request.getItems().stream()
-                .map(OrderItemRequest::getProductId)
-                .collect(Collectors.toList());
+        Map<Long, Integer> quantities = mergeQuantities(request);
 
-        List<Product> products = validateAndLockProducts(productIds, request.getItems());
+        List<Product> products = stockReservationService.reserve(quantities);
 
         Map<Long, Product> productMap = products.stream()
                 .collect(Collectors.toMap(Product::getId, Function.identity()));
@@ -58,14 +101,13 @@ public class OrderService {
         BigDecimal total = BigDecimal.ZERO;
         for (OrderItemRequest itemRequest : request.getItems()) {
             Product product = productMap.get(itemRequest.getProductId());
-            product.decreaseStock(itemRequest.getQuantity());
             BigDecimal itemTotal = product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity()));
             total = total.add(itemTotal);
         }
 
         Order order = OrderBuilder.fromOrderRequest(request, user);
         order.setTotal(total);
-        order.setOrderNumber(OrderBuilder.generateOrderNumber());
+        order.setOrderNumber(orderNumberGenerator.generate());
 
         for (OrderItemRequest itemRequest : request.getItems()) {
             Product product = productMap.get(itemRequest.getProductId());
@@ -74,45 +116,229 @@ public class OrderService {
         }
 
         order = orderRepository.save(order);
+        outboxService.recordOrdersPlaced(List.of(order));
+        revenueRollupService.recordOrdersPlaced(List.of(order));
 
-        productRepository.saveAll(products);
+        if (idempotencyKey != null) {
+            idempotencyKeyRepository.save(OrderBuilder.createIdempotencyKey(order, request, idempotencyKey));
+        }
 
         return ResponseBuilder.createOrderResponse(order);
     }
 
-    private List<Product> validateAndLockProducts(List<Long> productIds,
-                                                  List<OrderItemRequest> items) {
-        List<Product> products = productRepository.findAllByIdWithLock(productIds);
+    @Transactional
+    public BatchOrderResponse placeOrders(List<OrderRequest> requests, Long userId) {
 
-        orderChecker.checkAllProductsExist(productIds, products);
+        User user = orderChecker.checkUserExists(userId);
 
-        Map<Long, Integer> quantityMap = items.stream()
-                .collect(Collectors.toMap(
-                        OrderItemRequest::getProductId,
-                        OrderItemRequest::getQuantity
-                ));
+        List<BatchOrderResult> results = placeOrderBatch(requests, Collections.nCopies(requests.size(), user),
+                Collections.nCopies(requests.size(), null), new HashMap<>());
+
+        return ResponseBuilder.createBatchOrderResponse(results);
+    }
+
+    @Transactional
+    public List<BatchOrderResult> placeGroupedOrders(List<OrderRequest> requests, List<Long> userIds,
+                                                     List<String> idempotencyKeys) {
+
+        Map<Long, User> userMap = new HashMap<>();
+        Map<Integer, RuntimeException> failures = new HashMap<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            try {
+                users.add(userMap.computeIfAbsent(userIds.get(i), orderChecker::checkUserExists));
+            } catch (ResourceNotFoundException ex) {
+                users.add(null);
+                failures.put(i, ex);
+            }
+        }
+
+        return placeOrderBatch(requests, users, idempotencyKeys, failures);
+    }
+
+    private List<BatchOrderResult> placeOrderBatch(List<OrderRequest> requests, List<User> users,
+                                                   List<String> idempotencyKeys,
+                                                   Map<Integer, RuntimeException> failures) {
+        Set<Long> productIds = requests.stream()
+                .flatMap(request -> request.getItems().stream())
+                .map(OrderItemRequest::getProductId)
+                .collect(Collectors.toSet());
+
+        Map<Long, Product> productMap = productRepository.findAllByIdForUpdate(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        Map<Integer, Order> placedOrders = new LinkedHashMap<>();
+        Set<String> claimedKeys = claimedIdempotencyKeys(users, idempotencyKeys);
+
+        for (int i = 0; i < requests.size(); i++) {
+            if (failures.containsKey(i)) {
+                continue;
+            }
+            String idempotencyKey = idempotencyKeys.get(i);
+            if (idempotencyKey != null && !claimedKeys.add(users.get(i).getId() + ":" + idempotencyKey)) {
+                failures.put(i, new ResourceAlreadyExistsException("Order", "idempotency key", idempotencyKey));
+                continue;
+            }
+            try {
+                placedOrders.put(i, buildBatchOrder(requests.get(i), users.get(i), productMap));
+            } catch (BadRequestException | InsufficientStockException ex) {
+                failures.put(i, ex);
+            }
+        }
+
+        orderRepository.saveAll(placedOrders.values());
+        outboxService.recordOrdersPlaced(placedOrders.values());
+        revenueRollupService.recordOrdersPlaced(placedOrders.values());
+
+        List<OrderIdempotencyKey> keys = placedOrders.entrySet().stream()
+                .filter(entry -> idempotencyKeys.get(entry.getKey()) != null)
+                .map(entry -> OrderBuilder.createIdempotencyKey(entry.getValue(), requests.get(entry.getKey()),
+                        idempotencyKeys.get(entry.getKey())))
+                .toList();
+        if (!keys.isEmpty()) {
+            idempotencyKeyRepository.saveAll(keys);
+        }
+
+        List<BatchOrderResult> results = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            Order order = placedOrders.get(i);
+            results.add(order != null ?
+                    ResponseBuilder.createBatchOrderSuccess(i, order) :
+                    ResponseBuilder.createBatchOrderFailure(i, failures.get(i)));
+        }
+
+        return results;
+    }
+
+    private Set<String> claimedIdempotencyKeys(List<User> users, List<String> idempotencyKeys) {
+        Set<Long> userIds = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < idempotencyKeys.size(); i++) {
+            if (idempotencyKeys.get(i) != null && users.get(i) != null) {
+                userIds.add(users.get(i).getId());
+                keys.add(idempotencyKeys.get(i));
+            }
+        }
+        if (keys.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        userRepository.findAllByIdForUpdate(userIds);
+        return idempotencyKeyRepository.findByUserIdInAndIdempotencyKeyIn(userIds, keys).stream()
+                .map(stored -> stored.getUserId() + ":" + stored.getIdempotencyKey())
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private Order buildBatchOrder(OrderRequest request, User user, Map<Long, Product> productMap) {
+        Map<Long, Integer> quantities = mergeQuantities(request);
+
+        List<Product> products = quantities.keySet().stream()
+                .map(productMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        orderChecker.checkAllProductsExist(new ArrayList<>(quantities.keySet()), products);
 
         for (Product product : products) {
-            Integer requestedQuantity = quantityMap.get(product.getId());
             orderChecker.checkProductAvailability(product);
-            orderChecker.checkStockAvailability(product, requestedQuantity);
+            orderChecker.checkStockAvailability(product, quantities.get(product.getId()));
+        }
+
+        List<Product> reservedShardedProducts = new ArrayList<>();
+        for (Product product : products) {
+            if (!product.isStockSharded()) {
+                continue;
+            }
+            Integer quantity = quantities.get(product.getId());
+            if (!stockShardService.reserve(product, quantity)) {
+                reservedShardedProducts.forEach(reserved ->
+                        stockShardService.release(reserved, quantities.get(reserved.getId())));
+                throw new InsufficientStockException(
+                        "Insufficient stock for product: " + product.getName() + ". Requested: " + quantity);
+            }
+            reservedShardedProducts.add(product);
+        }
+
+        for (Product product : products) {
+            if (!product.isStockSharded()) {
+                product.decreaseStock(quantities.get(product.getId()));
+            }
+        }
+
+        Order order = OrderBuilder.fromOrderRequest(request, user);
+        order.setOrderNumber(orderNumberGenerator.generate());
+
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderItemRequest itemRequest : request.getItems()) {
+            Product product = productMap.get(itemRequest.getProductId());
+            order.addOrderItem(OrderItemBuilder.fromOrderItemRequest(itemRequest, order, product));
+            total = total.add(product.getPrice().multiply(BigDecimal.valueOf(itemRequest.getQuantity())));
         }
+        order.setTotal(total);
 
-        return products;
+        return order;
+    }
+
+    private Map<Long, Integer> mergeQuantities(OrderRequest request) {
+        return request.getItems().stream()
+                .collect(Collectors.toMap(
+                        OrderItemRequest::getProductId,
+                        OrderItemRequest::getQuantity,
+                        Integer::sum
+                ));
     }
 
+    @Transactional(readOnly = true)
     public Page<OrderResponse> getUserOrders(Long userId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return orderRepository.findByUserId(userId, pageable)
-                .map(ResponseBuilder::createOrderResponse);
+        Page<Order> orders = orderRepository.findByUserId(userId, pageable);
+        return new PageImpl<>(createOrderResponses(orders.getContent()), pageable, orders.getTotalElements());
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getUserOrders(Long userId, String cursor, int size) {
+        Cursor position = CursorCodec.decode(cursor);
+        Pageable limit = CursorCodec.limit(size);
+        List<Order> orders = position == null
+                ? orderRepository.findFirstByUserIdByCreatedAt(userId, limit)
+                : orderRepository.findByUserIdAndCreatedAtBeforeCursor(userId,
+                CursorCodec.decodeTimestamp(position), position.id(), limit);
+        return ResponseBuilder.createCursorPage(orders, size, this::createOrderResponses,
+                order -> CursorCodec.encode(order.getCreatedAt(), order.getId()));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponse> getAllOrders(String cursor, int size) {
+        Cursor position = CursorCodec.decode(cursor);
+        Pageable limit = CursorCodec.limit(size);
+        List<Order> orders = position == null
+                ? orderRepository.findFirstByCreatedAt(limit)
+                : orderRepository.findByCreatedAtBeforeCursor(CursorCodec.decodeTimestamp(position), position.id(), limit);
+        return ResponseBuilder.createCursorPage(orders, size, this::createOrderResponses,
+                order -> CursorCodec.encode(order.getCreatedAt(), order.getId()));
+    }
+
+    @Transactional(readOnly = true)
     public Page<OrderResponse> getAllOrders(int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return orderRepository.findAll(pageable)
-                .map(ResponseBuilder::createOrderResponse);
+        Page<Order> orders = orderRepository.findAll(pageable);
+        return new PageImpl<>(createOrderResponses(orders.getContent()), pageable, orders.getTotalElements());
     }
 
+    private List<OrderResponse> createOrderResponses(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<OrderItem>> items = orderItemRepository.findAllByOrderIdInWithProduct(
+                        orders.stream().map(Order::getId).toList()).stream()
+                .collect(Collectors.groupingBy(item -> item.getOrder().getId()));
+        return orders.stream()
+                .map(order -> ResponseBuilder.createOrderResponse(order, items.getOrDefault(order.getId(), List.of())))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public OrderResponse getOrderById(Long orderId, Long userId) {
         Order order = orderChecker.checkOrderExistsWithItems(orderId);
 
@@ -121,6 +347,7 @@ public class OrderService {
         return ResponseBuilder.createOrderResponse(order);
     }
 
+    @Transactional(readOnly = true)
     public OrderResponse getOrderByIdAdmin(Long orderId) {
         Order order = orderChecker.checkOrderExistsWithItems(orderId);
 
@@ -130,10 +357,15 @@ public class OrderService {
     @Transactional
     public OrderResponse updateOrderStatus(Long orderId, OrderStatus status) {
 
-        Order order = orderChecker.checkOrderExists(orderId);
+        orderRepository.findByIdForUpdate(orderId);
+        Order order = orderChecker.checkOrderExistsWithItems(orderId);
 
+        OrderStatus previous = order.getStatus();
         order.setStatus(status);
         order = orderRepository.save(order);
+        outboxService.recordOrderStatusChanged(order);
+        revenueRollupService.recordStatusChanged(order, previous);
+        trendingProductService.recordDelivered(order, previous);
 
         return ResponseBuilder.createOrderResponse(order);
     }
@@ -141,20 +373,70 @@ public class OrderService {
     @Transactional
     public void cancelOrder(Long orderId, Long userId) {
 
-        Order order = orderChecker.checkOrderExistsWithItems(orderId);
+        Order order = orderChecker.checkOrderExists(orderId);
 
         orderChecker.checkUserOwnsOrder(order, userId);
 
         orderChecker.checkOrderCanBeCanceled(order);
 
-        for (OrderItem item : order.getItems()) {
-            Product product = item.getProduct();
-            product.increaseStock(item.getQuantity());
-            productRepository.save(product);
+        if (cancelOrderChunk(List.of(orderId), CANCELLABLE_STATUSES) == 0) {
+            throw new BadRequestException("Order " + orderId + " can no longer be canceled");
+        }
+    }
+
+    @Transactional
+    public BulkCancelResponse cancelOrders(Collection<Long> orderIds) {
+        List<Long> ids = orderIds.stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        int cancelled = 0;
+        for (int from = 0; from < ids.size(); from += CANCEL_CHUNK_SIZE) {
+            cancelled += cancelOrderChunk(ids.subList(from, Math.min(from + CANCEL_CHUNK_SIZE, ids.size())),
+                    CANCELLABLE_STATUSES);
+        }
+
+        return ResponseBuilder.createBulkCancelResponse(ids.size(), cancelled);
+    }
+
+    @Transactional
+    public BulkCancelResponse cancelUserOrders(Long userId) {
+        orderChecker.checkUserExists(userId);
+
+        return cancelOrders(orderRepository.findIdsByUserIdAndStatus(userId, CANCELLABLE_STATUSES));
+    }
+
+    @Transactional
+    public int expirePendingOrders(List<Long> orderIds) {
+        return cancelOrderChunk(orderIds, List.of(OrderStatus.PENDING));
+    }
+
+    private int cancelOrderChunk(List<Long> orderIds, Collection<OrderStatus> statuses) {
+        List<Long> cancellableIds = orderRepository.findAllByIdAndStatusForUpdate(orderIds, statuses)
+                .stream()
+                .map(Order::getId)
+                .toList();
+
+        if (cancellableIds.isEmpty()) {
+            return 0;
         }
 
-        order.setStatus(OrderStatus.CANCELLED);
-        orderRepository.save(order);
+        Map<Long, Integer> quantities = orderItemRepository.sumQuantitiesByProduct(cancellableIds).stream()
+                .collect(Collectors.toMap(
+                        row -> (Long) row[0],
+                        row -> ((Number) row[1]).intValue()
+                ));
+
+        stockReservationService.release(quantities);
+
+        int cancelled = orderRepository.updateStatus(cancellableIds, statuses, OrderStatus.CANCELLED,
+                LocalDateTime.now());
+        if (cancelled != cancellableIds.size()) {
+            throw new OptimisticLockingFailureException("Orders changed status while being cancelled");
+        }
+        outboxService.recordOrdersCancelled(cancellableIds, quantities);
 
+        return cancelled;
     }
 }
\ No newline at end of file
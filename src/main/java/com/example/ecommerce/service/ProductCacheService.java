@@ -0,0 +1,241 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.datasource.ReplicaRouting;
+import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.invalidation.CacheInvalidationEvent;
+import com.example.ecommerce.util.builder.ResponseBuilder;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@Service
+public class ProductCacheService {
+
+    private static final String CATEGORIES_KEY = "categories";
+    private static final String LISTINGS_KEY = "listings";
+    private static final String ALL_PRODUCTS_KEY = "products";
+
+    private final ProductRepository productRepository;
+    private final boolean enabled;
+    private final Cache<Long, CachedProduct> products;
+    private final Cache<Long, Long> committedVersions;
+    private final Cache<String, CachedPage> listings;
+    private final Cache<String, List<String>> categories;
+    private final LoadingCache<Long, Integer> stock;
+    private final Cache<String, Boolean> primaryRefills;
+    private final AtomicLong listingGeneration = new AtomicLong();
+
+    public ProductCacheService(ProductRepository productRepository,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.product-cache.enabled:true}") boolean enabled,
+                               @Value("${app.product-cache.max-size:10000}") long maxSize,
+                               @Value("${app.product-cache.ttl-minutes:10}") long ttlMinutes,
+                               @Value("${app.product-cache.listing-max-size:1000}") long listingMaxSize,
+                               @Value("${app.product-cache.listing-ttl-seconds:60}") long listingTtlSeconds,
+                               @Value("${app.product-cache.stock-ttl-ms:1000}") long stockTtlMillis,
+                               @Value("${app.product-cache.primary-refill-window-ms:5000}") long primaryRefillWindowMillis) {
+        this.productRepository = productRepository;
+        this.enabled = enabled;
+        this.products = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.committedVersions = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+        this.listings = Caffeine.newBuilder()
+                .maximumSize(listingMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(listingTtlSeconds))
+                .recordStats()
+                .build();
+        this.categories = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+        this.stock = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(stockTtlMillis))
+                .recordStats()
+                .build(new StockLoader());
+        this.primaryRefills = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(primaryRefillWindowMillis))
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "products");
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, "products.listings");
+        CaffeineCacheMetrics.monitor(meterRegistry, stock, "products.stock");
+        CaffeineCacheMetrics.monitor(meterRegistry, categories, "products.categories");
+    }
+
+    public ProductResponse getProduct(Long id, Supplier<Product> loader) {
+        if (!enabled) {
+            return ResponseBuilder.createProductResponse(loader.get());
+        }
+
+        CachedProduct cached = products.getIfPresent(id);
+        if (cached != null) {
+            Integer currentStock = stock.get(id);
+            return currentStock != null ? withStock(cached.response(), currentStock) : cached.response();
+        }
+
+        Product product = read(loader, productKey(id), ALL_PRODUCTS_KEY);
+        ProductResponse response = ResponseBuilder.createProductResponse(product);
+        put(product, response);
+        return response;
+    }
+
+    public Page<ProductResponse> getPage(String key, Pageable pageable, Supplier<Page<Product>> loader) {
+        if (!enabled) {
+            return loader.get().map(ResponseBuilder::createProductResponse);
+        }
+
+        CachedPage cached = listings.getIfPresent(key);
+        if (cached != null) {
+            Map<Long, Integer> currentStock = stock.getAll(cached.content().stream()
+                    .map(ProductResponse::getId)
+                    .toList());
+            List<ProductResponse> content = cached.content().stream()
+                    .map(response -> withStock(response, currentStock.getOrDefault(response.getId(), response.getStock())))
+                    .toList();
+            return new PageImpl<>(content, pageable, cached.total());
+        }
+
+        long generation = listingGeneration.get();
+        Page<Product> page = read(loader, LISTINGS_KEY);
+        List<ProductResponse> content = new ArrayList<>();
+        for (Product product : page.getContent()) {
+            ProductResponse response = ResponseBuilder.createProductResponse(product);
+            put(product, response);
+            content.add(response);
+        }
+
+        if (listingGeneration.get() == generation) {
+            listings.put(key, new CachedPage(content, page.getTotalElements()));
+        }
+        return new PageImpl<>(content, pageable, page.getTotalElements());
+    }
+
+    public List<String> getCategories(Supplier<List<String>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        return categories.get(CATEGORIES_KEY, key -> read(loader, CATEGORIES_KEY));
+    }
+
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        switch (event.type()) {
+            case PRODUCT -> invalidate(event.id(), event.version());
+            case CATEGORY -> {
+                primaryRefills.put(CATEGORIES_KEY, Boolean.TRUE);
+                categories.invalidateAll();
+            }
+            case ALL -> invalidateAll();
+            default -> {
+            }
+        }
+    }
+
+    public void invalidate(Long id, Long version) {
+        if (version != null) {
+            committedVersions.asMap().merge(id, version, Math::max);
+        }
+        primaryRefills.put(productKey(id), Boolean.TRUE);
+        products.invalidate(id);
+        stock.invalidate(id);
+        invalidateListings();
+    }
+
+    public void invalidateAll() {
+        primaryRefills.put(ALL_PRODUCTS_KEY, Boolean.TRUE);
+        primaryRefills.put(CATEGORIES_KEY, Boolean.TRUE);
+        products.invalidateAll();
+        stock.invalidateAll();
+        categories.invalidateAll();
+        invalidateListings();
+    }
+
+    public void invalidateListings() {
+        primaryRefills.put(LISTINGS_KEY, Boolean.TRUE);
+        listingGeneration.incrementAndGet();
+        listings.invalidateAll();
+    }
+
+    private void put(Product product, ProductResponse response) {
+        Long committedVersion = committedVersions.getIfPresent(product.getId());
+        if (committedVersion != null && product.getVersion() != null && product.getVersion() < committedVersion) {
+            return;
+        }
+        products.put(product.getId(), new CachedProduct(product.getVersion(), response));
+        stock.put(product.getId(), product.getStock());
+    }
+
+    private <T> T read(Supplier<T> loader, String... refillKeys) {
+        for (String refillKey : refillKeys) {
+            if (primaryRefills.getIfPresent(refillKey) != null) {
+                return ReplicaRouting.onPrimary(loader);
+            }
+        }
+        return loader.get();
+    }
+
+    private String productKey(Long id) {
+        return "product:" + id;
+    }
+
+    private ProductResponse withStock(ProductResponse response, Integer currentStock) {
+        return response.toBuilder().stock(currentStock).build();
+    }
+
+    private record CachedProduct(Long version, ProductResponse response) {
+    }
+
+    private record CachedPage(List<ProductResponse> content, long total) {
+    }
+
+    private class StockLoader implements CacheLoader<Long, Integer> {
+
+        @Override
+        public Integer load(Long id) {
+            return loadAll(Set.of(id)).get(id);
+        }
+
+        @Override
+        public Map<Long, Integer> loadAll(Set<? extends Long> ids) {
+            Map<Long, Integer> result = new HashMap<>();
+            String[] refillKeys = Stream.concat(Stream.of(ALL_PRODUCTS_KEY),
+                    ids.stream().map(ProductCacheService.this::productKey)).toArray(String[]::new);
+            List<Object[]> rows = read(() -> productRepository.findAvailableStockByIds(new ArrayList<>(ids)),
+                    refillKeys);
+            for (Object[] row : rows) {
+                result.put((Long) row[0], (Integer) row[1]);
+            }
+            return result;
+        }
+    }
+}
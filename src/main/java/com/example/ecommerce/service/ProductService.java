@@ -1,21 +1,33 @@
 package com.example.ecommerce.service;
 
 import com.example.ecommerce.dto.request.ProductRequest;
+import com.example.ecommerce.dto.response.CursorPage;
+import com.example.ecommerce.dto.response.FacetedSearchResponse;
 import com.example.ecommerce.dto.response.ProductResponse;
 import com.example.ecommerce.model.Product;
 import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import com.example.ecommerce.service.invalidation.CacheInvalidationBus;
+import com.example.ecommerce.service.outbox.OutboxService;
+import com.example.ecommerce.service.search.ProductFacetService;
+import com.example.ecommerce.service.search.ProductFilter;
+import com.example.ecommerce.service.search.ProductSearch;
 import com.example.ecommerce.util.builder.ProductBuilder;
 import com.example.ecommerce.util.builder.ResponseBuilder;
 import com.example.ecommerce.util.checker.ProductChecker;
+import com.example.ecommerce.util.cursor.Cursor;
+import com.example.ecommerce.util.cursor.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,14 +36,32 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final ProductChecker productChecker;
+    private final StockShardService stockShardService;
+    private final OutboxService outboxService;
+    private final ProductCacheService productCacheService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final ProductSearch productSearch;
+    private final ProductFacetService productFacetService;
 
     public Page<ProductResponse> getAllProducts(int page, int size, String sortBy, String sortDir) {
         Sort sort = sortDir.equalsIgnoreCase("desc") ?
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        return productRepository.findAllActive(pageable)
-                .map(ResponseBuilder::createProductResponse);
+        return productCacheService.getPage(listingKey("all", pageable), pageable,
+                () -> productRepository.findAllActive(pageable));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ProductResponse> getAllProducts(String cursor, int size) {
+        Cursor position = CursorCodec.decode(cursor);
+        Pageable limit = CursorCodec.limit(size);
+        List<Product> products = position == null
+                ? productRepository.findFirstActiveByName(limit)
+                : productRepository.findActiveByNameAfterCursor(position.key(), position.id(), limit);
+        return ResponseBuilder.createCursorPage(products, size,
+                page -> page.stream().map(ResponseBuilder::createProductResponse).toList(),
+                product -> CursorCodec.encode(product.getName(), product.getId()));
     }
 
     public Page<ProductResponse> searchProducts(String name, String category,
@@ -43,61 +73,102 @@ public class ProductService {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         if (name != null && !name.trim().isEmpty()) {
-            return productRepository.findByNameContainingAndActive(name, pageable)
-                    .map(ResponseBuilder::createProductResponse);
+            Pageable relevance = PageRequest.of(page, size);
+            return productCacheService.getPage(listingKey("name=" + name, relevance), relevance,
+                    () -> productSearch.search(name, relevance));
         } else if (category != null && !category.trim().isEmpty()) {
-            return productRepository.findByCategoryAndActive(category, pageable)
-                    .map(ResponseBuilder::createProductResponse);
+            return productCacheService.getPage(listingKey("category=" + category, pageable), pageable,
+                    () -> productRepository.findByCategoryAndActive(category, pageable));
         } else if (minPrice != null && maxPrice != null) {
-            return productRepository.findByPriceBetweenAndActive(minPrice, maxPrice, pageable)
-                    .map(ResponseBuilder::createProductResponse);
+            return productCacheService.getPage(listingKey("price=" + minPrice + ".." + maxPrice, pageable), pageable,
+                    () -> productRepository.findByPriceBetweenAndActive(minPrice, maxPrice, pageable));
         } else {
-            return productRepository.findAllActive(pageable)
-                    .map(ResponseBuilder::createProductResponse);
+            return productCacheService.getPage(listingKey("all", pageable), pageable,
+                    () -> productRepository.findAllActive(pageable));
         }
     }
 
-    public ProductResponse getProductById(Long id) {
-        Product product = productChecker.checkProductExists(id);
+    public FacetedSearchResponse facetedSearch(String name, String category,
+                                               BigDecimal minPrice, BigDecimal maxPrice, boolean inStock,
+                                               int page, int size, String sortBy, String sortDir) {
+        productChecker.checkPriceRange(minPrice, maxPrice);
 
-        return ResponseBuilder.createProductResponse(product);
+        Sort sort = sortDir.equalsIgnoreCase("desc") ?
+                Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+
+        return productFacetService.search(new ProductFilter(name, category, minPrice, maxPrice, inStock),
+                PageRequest.of(page, size, sort));
+    }
+
+    public ProductResponse getProductById(Long id) {
+        return productCacheService.getProduct(id, () -> productChecker.checkProductExists(id));
     }
 
+    @Transactional
     public ProductResponse createProduct(ProductRequest request) {
 
+        productChecker.checkSkuAvailable(request.getSku());
         Product product = ProductBuilder.fromProductRequest(request);
 
         product = productRepository.save(product);
+        publishInvalidation(product, true);
 
         return ResponseBuilder.createProductResponse(product);
     }
 
+    @Transactional
     public ProductResponse updateProduct(Long id, ProductRequest request) {
 
         Product product = productChecker.checkProductExists(id);
+        boolean categoryChanged = !Objects.equals(product.getCategory(), request.getCategory());
 
+        if (request.getSku() != null) {
+            productChecker.checkSkuAvailable(request.getSku(), id);
+            product.setSku(request.getSku());
+        }
         product.setName(request.getName());
         product.setDescription(request.getDescription());
         product.setPrice(request.getPrice());
-        product.setStock(request.getStock());
+        if (product.isStockSharded()) {
+            stockShardService.redistribute(product, request.getStock());
+        } else {
+            product.setStock(request.getStock());
+        }
         product.setCategory(request.getCategory());
 
-        product = productRepository.save(product);
+        product = productRepository.saveAndFlush(product);
+        outboxService.recordProductUpdated(product);
+        publishInvalidation(product, categoryChanged);
         return ResponseBuilder.createProductResponse(product);
     }
 
+    @Transactional
+    public ProductResponse configureStockShards(Long id, int shardCount) {
+
+        productChecker.checkStockShardCount(shardCount);
+        Product product = productChecker.checkProductExists(id);
+        stockShardService.configure(product, shardCount);
+
+        product = productRepository.saveAndFlush(product);
+        publishInvalidation(product, false);
+        return ResponseBuilder.createProductResponse(product);
+    }
+
+    @Transactional
     public void deleteProduct(Long id) {
 
         Product product = productChecker.checkProductExists(id);
         product.setIsActive(false);
-        productRepository.save(product);
+        productRepository.saveAndFlush(product);
+        publishInvalidation(product, true);
 
     }
 
     public List<String> getAllCategories() {
-        return productRepository.findAllCategories();
+        return productCacheService.getCategories(productRepository::findAllCategories);
     }
 
+    @Transactional(readOnly = true)
     public List<ProductResponse> getLowStockProducts(int threshold) {
         return productRepository.findLowStockProducts(threshold)
                 .stream()
@@ -105,7 +176,19 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public long getActiveProductCount() {
         return productRepository.countActiveProducts();
     }
-}
\ No newline at end of file
+
+    private void publishInvalidation(Product product, boolean categoryChanged) {
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationType.PRODUCT, product.getId(), product.getVersion());
+        if (categoryChanged) {
+            cacheInvalidationBus.publishAfterCommit(CacheInvalidationType.CATEGORY, null, null);
+        }
+    }
+
+    private String listingKey(String filter, Pageable pageable) {
+        return filter + "|" + pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.model.Product;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class StockReservationMetrics implements RetryListener {
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordConflict(Object productId) {
+        meterRegistry.counter("stock.reservation.conflicts").increment();
+        log.debug("Stock reservation conflict on product {}", productId);
+    }
+
+    public void recordRetry(Object productId) {
+        meterRegistry.counter("stock.reservation.retries").increment();
+        log.debug("Retrying stock reservation on product {}", productId);
+    }
+
+    public double getConflictCount() {
+        return count("stock.reservation.conflicts");
+    }
+
+    public double getRetryCount() {
+        return count("stock.reservation.retries");
+    }
+
+    @Override
+    public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback,
+                                                 Throwable throwable) {
+        if (!(throwable instanceof OptimisticLockingFailureException)) {
+            return;
+        }
+
+        Object productId = null;
+        if (throwable instanceof ObjectOptimisticLockingFailureException ex &&
+                Product.class.getName().equals(ex.getPersistentClassName())) {
+            productId = ex.getIdentifier();
+        }
+
+        recordConflict(productId);
+        if (context.getRetryCount() < StockReservationService.MAX_ATTEMPTS) {
+            recordRetry(productId);
+        }
+    }
+
+    private double count(String name) {
+        Counter counter = meterRegistry.find(name).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
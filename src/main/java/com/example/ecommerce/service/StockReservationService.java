@@ -0,0 +1,173 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.exception.InsufficientStockException;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.StockReservationMode;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.util.checker.OrderChecker;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class StockReservationService {
+
+    public static final int MAX_ATTEMPTS = 3;
+
+    private static final String RESERVE_STOCK_SQL =
+            "UPDATE products SET stock = stock - ?, version = version + 1 WHERE id = ? AND stock >= ?";
+
+    private static final int RELEASE_CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final OrderChecker orderChecker;
+    private final JdbcTemplate jdbcTemplate;
+    private final StockReservationMetrics stockReservationMetrics;
+    private final StockShardService stockShardService;
+    private final EntityManager entityManager;
+
+    @Value("${app.stock.reservation-mode:ATOMIC}")
+    private StockReservationMode mode;
+
+    public List<Product> reserve(Map<Long, Integer> quantities) {
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+
+        List<Product> products = mode == StockReservationMode.OPTIMISTIC ?
+                productRepository.findAllByIdWithLock(productIds) :
+                productRepository.findAllById(productIds);
+
+        orderChecker.checkAllProductsExist(productIds, products);
+
+        for (Product product : products) {
+            orderChecker.checkProductAvailability(product);
+            orderChecker.checkStockAvailability(product, quantities.get(product.getId()));
+        }
+
+        List<Product> plainProducts = products.stream()
+                .filter(product -> !product.isStockSharded())
+                .toList();
+
+        if (mode == StockReservationMode.OPTIMISTIC) {
+            for (Product product : plainProducts) {
+                product.decreaseStock(quantities.get(product.getId()));
+            }
+            productRepository.saveAll(plainProducts);
+        } else if (!plainProducts.isEmpty()) {
+            decreaseStockAtomically(plainProducts, quantities);
+        }
+
+        List<Product> shardedProducts = products.stream()
+                .filter(Product::isStockSharded)
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+
+        for (Product product : shardedProducts) {
+            Integer quantity = quantities.get(product.getId());
+            if (!stockShardService.reserve(product, quantity)) {
+                stockReservationMetrics.recordConflict(product.getId());
+                throw insufficientStock(product, quantity);
+            }
+        }
+
+        return products;
+    }
+
+    public void release(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+
+        List<Product> products = productRepository.findAllByIdForUpdate(quantities.keySet());
+
+        List<Product> plainProducts = products.stream()
+                .filter(product -> !product.isStockSharded())
+                .toList();
+
+        for (int from = 0; from < plainProducts.size(); from += RELEASE_CHUNK_SIZE) {
+            int to = Math.min(from + RELEASE_CHUNK_SIZE, plainProducts.size());
+            increaseStock(plainProducts.subList(from, to), quantities);
+        }
+        plainProducts.forEach(entityManager::detach);
+
+        products.stream()
+                .filter(Product::isStockSharded)
+                .forEach(product -> stockShardService.release(product, quantities.get(product.getId())));
+    }
+
+    public StockReservationMode getMode() {
+        return mode;
+    }
+
+    private void decreaseStockAtomically(List<Product> products, Map<Long, Integer> quantities) {
+        List<Product> orderedProducts = products.stream()
+                .sorted(Comparator.comparing(Product::getId))
+                .toList();
+
+        List<Object[]> batchArgs = orderedProducts.stream()
+                .map(product -> {
+                    Integer quantity = quantities.get(product.getId());
+                    return new Object[]{quantity, product.getId(), quantity};
+                })
+                .toList();
+
+        int[] updateCounts = jdbcTemplate.batchUpdate(RESERVE_STOCK_SQL, batchArgs);
+
+        for (int i = 0; i < updateCounts.length; i++) {
+            if (updateCounts[i] == 0) {
+                Product product = orderedProducts.get(i);
+                stockReservationMetrics.recordConflict(product.getId());
+                throw insufficientStock(product, quantities.get(product.getId()));
+            }
+        }
+        syncStock(orderedProducts);
+    }
+
+    private void syncStock(List<Product> products) {
+        Map<Long, Object[]> rows = productRepository.findStockAndVersionByIds(
+                        products.stream().map(Product::getId).toList()).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+
+        for (Product product : products) {
+            entityManager.detach(product);
+            Object[] row = rows.get(product.getId());
+            if (row != null) {
+                product.setStock((Integer) row[1]);
+                product.setVersion((Long) row[2]);
+            }
+        }
+    }
+
+    private void increaseStock(List<Product> products, Map<Long, Integer> quantities) {
+        StringBuilder sql = new StringBuilder("UPDATE products SET stock = stock + CASE id");
+        List<Object> args = new ArrayList<>();
+        for (Product product : products) {
+            sql.append(" WHEN ? THEN ?");
+            args.add(product.getId());
+            args.add(quantities.get(product.getId()));
+        }
+
+        sql.append(" END, version = version + 1 WHERE id IN (")
+                .append(String.join(", ", Collections.nCopies(products.size(), "?")))
+                .append(")");
+        products.forEach(product -> args.add(product.getId()));
+
+        jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private InsufficientStockException insufficientStock(Product product, Integer quantity) {
+        return new InsufficientStockException(
+                "Insufficient stock for product: " + product.getName() + ". Requested: " + quantity
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.ProductStockShard;
+import com.example.ecommerce.repository.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Service
+@RequiredArgsConstructor
+public class StockShardService {
+
+    private final ProductStockShardRepository shardRepository;
+
+    @Transactional
+    public boolean reserve(Product product, int quantity) {
+        int shardNo = ThreadLocalRandom.current().nextInt(product.getStockShards());
+        if (shardRepository.decreaseStock(product.getId(), shardNo, quantity) > 0) {
+            return true;
+        }
+        return rebalanceAndReserve(product, quantity);
+    }
+
+    @Transactional
+    public void release(Product product, int quantity) {
+        int shardNo = ThreadLocalRandom.current().nextInt(product.getStockShards());
+        shardRepository.increaseStock(product.getId(), shardNo, quantity);
+    }
+
+    @Transactional
+    public void configure(Product product, int shardCount) {
+        List<ProductStockShard> shards = shardRepository.findAllByProductIdWithLock(product.getId());
+
+        int total = product.isStockSharded() ?
+                shards.stream().mapToInt(ProductStockShard::getStock).sum() :
+                product.getStock();
+
+        shardRepository.deleteAll(shards);
+        shardRepository.flush();
+
+        if (shardCount > 1) {
+            List<ProductStockShard> newShards = new ArrayList<>();
+            for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+                newShards.add(ProductStockShard.builder()
+                        .product(product)
+                        .shardNo(shardNo)
+                        .stock(shareOf(total, shardCount, shardNo))
+                        .build());
+            }
+            shardRepository.saveAll(newShards);
+            product.setStock(0);
+            product.setStockShards(shardCount);
+        } else {
+            product.setStock(total);
+            product.setStockShards(0);
+        }
+        product.setAvailableStock(total);
+    }
+
+    @Transactional
+    public void redistribute(Product product, int total) {
+        List<ProductStockShard> shards = shardRepository.findAllByProductIdWithLock(product.getId());
+        spread(shards, total);
+        product.setAvailableStock(total);
+    }
+
+    private boolean rebalanceAndReserve(Product product, int quantity) {
+        List<ProductStockShard> shards = shardRepository.findAllByProductIdWithLock(product.getId());
+
+        int total = shards.stream().mapToInt(ProductStockShard::getStock).sum();
+        if (total < quantity) {
+            return false;
+        }
+
+        spread(shards, total - quantity);
+        return true;
+    }
+
+    private void spread(List<ProductStockShard> shards, int total) {
+        for (int i = 0; i < shards.size(); i++) {
+            shards.get(i).setStock(shareOf(total, shards.size(), i));
+        }
+        shardRepository.saveAll(shards);
+    }
+
+    private int shareOf(int total, int shardCount, int shardNo) {
+        return total / shardCount + (shardNo < total % shardCount ? 1 : 0);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.ecommerce.service.analytics;
+
+import com.example.ecommerce.datasource.ReplicaRouting;
+import com.example.ecommerce.dto.response.DashboardResponse;
+import com.example.ecommerce.dto.response.LowStockResponse;
+import com.example.ecommerce.dto.response.RevenueReport;
+import com.example.ecommerce.dto.response.TopSellingProductsResponse;
+import com.example.ecommerce.exception.ServiceUnavailableException;
+import com.example.ecommerce.service.AnalyticsService;
+import com.example.ecommerce.util.builder.ResponseBuilder;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Service
+public class DashboardService {
+
+    private static final String DASHBOARD_KEY = "dashboard";
+
+    private final AnalyticsService analyticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final long queryTimeoutMillis;
+    private final ExecutorService executor;
+    private final AsyncCache<String, DashboardResponse> dashboards;
+
+    public DashboardService(AnalyticsService analyticsService,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.dashboard.threads:4}") int threads,
+                            @Value("${app.dashboard.query-timeout-ms:5000}") long queryTimeoutMillis,
+                            @Value("${app.dashboard.ttl-seconds:30}") long ttlSeconds) {
+        this.analyticsService = analyticsService;
+        this.queryTimeoutMillis = queryTimeoutMillis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.transactionTemplate.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(queryTimeoutMillis + 999)));
+        this.executor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("dashboard-"));
+        this.dashboards = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, dashboards.synchronous(), "analytics.dashboard");
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public DashboardResponse getDashboard() {
+        try {
+            return dashboards.get(DASHBOARD_KEY, (key, cacheExecutor) -> assemble()).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new ServiceUnavailableException("Dashboard data is taking too long to compute. Please retry shortly.");
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private CompletableFuture<DashboardResponse> assemble() {
+        CompletableFuture<RevenueReport> weeklyRevenue = section(analyticsService::getCurrentWeekRevenue);
+        CompletableFuture<RevenueReport> monthlyRevenue = section(analyticsService::getCurrentMonthRevenue);
+        CompletableFuture<TopSellingProductsResponse> topProducts = section(analyticsService::getTopSellingProductsThisMonth);
+        CompletableFuture<LowStockResponse> criticalStock = section(analyticsService::getCriticalStockProducts);
+
+        return CompletableFuture.allOf(weeklyRevenue, monthlyRevenue, topProducts, criticalStock)
+                .thenApply(ignored -> ResponseBuilder.createDashboardResponse(weeklyRevenue.join(),
+                        monthlyRevenue.join(), topProducts.join(), criticalStock.join()));
+    }
+
+    private <T> CompletableFuture<T> section(Supplier<T> query) {
+        ReplicaRouting routing = ReplicaRouting.current();
+        return CompletableFuture.supplyAsync(
+                        () -> ReplicaRouting.with(routing, () -> transactionTemplate.execute(status -> query.get())),
+                        executor)
+                .orTimeout(queryTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,285 @@
+package com.example.ecommerce.service.analytics;
+
+import com.example.ecommerce.dto.response.TimeSeriesPoint;
+import com.example.ecommerce.model.JobLock;
+import com.example.ecommerce.model.Order;
+import com.example.ecommerce.model.OrderItem;
+import com.example.ecommerce.model.RevenueRollup;
+import com.example.ecommerce.model.RevenueRollupDelta;
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
+import com.example.ecommerce.repository.DailyRevenueRollupRepository;
+import com.example.ecommerce.repository.HourlyRevenueRollupRepository;
+import com.example.ecommerce.repository.JobLockRepository;
+import com.example.ecommerce.repository.MinuteRevenueRollupRepository;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.RevenueRollupDeltaRepository;
+import com.example.ecommerce.util.builder.ResponseBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class RevenueRollupService {
+
+    private static final String LOCK_NAME = "revenue-rollup";
+
+    private final OrderRepository orderRepository;
+    private final MinuteRevenueRollupRepository minuteRepository;
+    private final HourlyRevenueRollupRepository hourlyRepository;
+    private final DailyRevenueRollupRepository dailyRepository;
+    private final RevenueRollupDeltaRepository deltaRepository;
+    private final JobLockRepository jobLockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate snapshotTemplate;
+    private final boolean enabled;
+    private final int reconcileDays;
+    private final int minuteRetentionDays;
+    private final int flushBatchSize;
+    private final Timer reconcileTimer;
+
+    public RevenueRollupService(OrderRepository orderRepository,
+                                MinuteRevenueRollupRepository minuteRepository,
+                                HourlyRevenueRollupRepository hourlyRepository,
+                                DailyRevenueRollupRepository dailyRepository,
+                                RevenueRollupDeltaRepository deltaRepository,
+                                JobLockRepository jobLockRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.revenue-rollup.enabled:true}") boolean enabled,
+                                @Value("${app.revenue-rollup.reconcile-days:2}") int reconcileDays,
+                                @Value("${app.revenue-rollup.minute-retention-days:7}") int minuteRetentionDays,
+                                @Value("${app.revenue-rollup.flush-batch-size:5000}") int flushBatchSize) {
+        this.orderRepository = orderRepository;
+        this.minuteRepository = minuteRepository;
+        this.hourlyRepository = hourlyRepository;
+        this.dailyRepository = dailyRepository;
+        this.deltaRepository = deltaRepository;
+        this.jobLockRepository = jobLockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.enabled = enabled;
+        this.reconcileDays = reconcileDays;
+        this.minuteRetentionDays = minuteRetentionDays;
+        this.flushBatchSize = flushBatchSize;
+        this.reconcileTimer = meterRegistry.timer("analytics.revenue-rollup.reconcile");
+    }
+
+    public RevenueTotals summarize(LocalDateTime start, LocalDateTime end) {
+        if (!enabled) {
+            return summarizeOrders(start, end);
+        }
+
+        LocalDateTime firstHour = ceil(start, ChronoUnit.HOURS);
+        LocalDateTime lastHour = end.truncatedTo(ChronoUnit.HOURS);
+        if (!firstHour.isBefore(lastHour)) {
+            return summarizeOrders(start, end);
+        }
+
+        RevenueTotals totals = summarizeOrders(start, firstHour).plus(summarizeOrders(lastHour, end));
+
+        LocalDateTime firstDay = ceil(firstHour, ChronoUnit.DAYS);
+        LocalDateTime lastDay = lastHour.truncatedTo(ChronoUnit.DAYS);
+        if (!firstDay.isBefore(lastDay)) {
+            return totals.plus(summarizeHours(firstHour, lastHour));
+        }
+
+        return totals.plus(summarizeHours(firstHour, firstDay))
+                .plus(RevenueTotals.fromRows(dailyRepository.sumBetween(firstDay, lastDay)))
+                .plus(summarizeHours(lastDay, lastHour));
+    }
+
+    public List<TimeSeriesPoint> getSeries(TimeSeriesGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        List<? extends RevenueRollup> rows = switch (granularity) {
+            case MINUTE -> minuteRepository.findSeries(from, to);
+            case HOUR -> hourlyRepository.findSeries(from, to);
+            case DAY -> dailyRepository.findSeries(from, to);
+        };
+        Map<LocalDateTime, RevenueRollup> buckets = rows.stream()
+                .collect(Collectors.toMap(RevenueRollup::getBucketStart, Function.identity()));
+
+        List<TimeSeriesPoint> points = new ArrayList<>();
+        for (LocalDateTime bucket = from; bucket.isBefore(to); bucket = bucket.plus(1, granularity.getUnit())) {
+            RevenueRollup rollup = buckets.get(bucket);
+            points.add(rollup != null
+                    ? ResponseBuilder.createTimeSeriesPoint(bucket, rollup)
+                    : ResponseBuilder.createEmptyTimeSeriesPoint(bucket));
+        }
+        return points;
+    }
+
+    public int getMinuteRetentionDays() {
+        return minuteRetentionDays;
+    }
+
+    public void recordOrdersPlaced(Collection<Order> orders) {
+        if (!enabled || orders.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDateTime, RevenueTotals> deltas = new TreeMap<>();
+        for (Order order : orders) {
+            deltas.merge(bucketOf(order), new RevenueTotals(BigDecimal.ZERO, 1, 0, 0), RevenueTotals::plus);
+        }
+        saveDeltas(deltas);
+    }
+
+    public void recordStatusChanged(Order order, OrderStatus previous) {
+        if (!enabled || previous == order.getStatus()) {
+            return;
+        }
+
+        long units = order.getItems().stream().mapToLong(OrderItem::getQuantity).sum();
+        if (order.getStatus() == OrderStatus.DELIVERED) {
+            saveDeltas(Map.of(bucketOf(order), new RevenueTotals(order.getTotal(), 0, 1, units)));
+        } else if (previous == OrderStatus.DELIVERED) {
+            saveDeltas(Map.of(bucketOf(order), new RevenueTotals(order.getTotal().negate(), 0, -1, -units)));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.revenue-rollup.flush-interval-ms:5000}")
+    public void flush() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Integer applied;
+            do {
+                applied = transactionTemplate.execute(status -> flushBatch());
+            } while (applied != null && applied == flushBatchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Could not flush revenue rollup deltas, retrying on the next run", ex);
+        }
+    }
+
+    @Scheduled(cron = "${app.revenue-rollup.reconcile-cron:0 */10 * * * *}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        reconcile(now.truncatedTo(ChronoUnit.DAYS).minusDays(reconcileDays), now.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    public void reconcile(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime firstDay = from.truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime lastDay = to.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+        LocalDateTime minuteCutoff = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(minuteRetentionDays);
+        LocalDateTime minuteFrom = from.isAfter(minuteCutoff) ? from : minuteCutoff;
+
+        reconcileTimer.record(() -> transactionTemplate.executeWithoutResult(lockStatus -> {
+            lockRollups();
+            snapshotTemplate.executeWithoutResult(status -> {
+                minuteRepository.deleteBefore(minuteCutoff);
+                if (minuteFrom.isBefore(to)) {
+                    minuteRepository.deleteBetween(minuteFrom, to);
+                    minuteRepository.rebuildFromOrders(minuteFrom, to);
+                    minuteRepository.rebuildUnitsFromOrders(minuteFrom, to);
+                }
+                hourlyRepository.deleteBetween(from, to);
+                hourlyRepository.rebuildFromOrders(from, to);
+                hourlyRepository.rebuildUnitsFromOrders(from, to);
+                deltaRepository.deleteBetween(from, to);
+                dailyRepository.deleteBetween(firstDay, lastDay);
+                dailyRepository.rebuildFromHourly(firstDay, lastDay);
+            });
+        }));
+        log.debug("Reconciled revenue rollups from {} to {}", from, to);
+    }
+
+    private int flushBatch() {
+        lockRollups();
+        List<RevenueRollupDelta> deltas = deltaRepository.findBatch(PageRequest.of(0, flushBatchSize));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDateTime, RevenueTotals> minutely = new TreeMap<>();
+        for (RevenueRollupDelta delta : deltas) {
+            minutely.merge(delta.getBucketStart(), new RevenueTotals(delta.getRevenue(), delta.getOrderCount(),
+                    delta.getDeliveredCount(), delta.getUnitsSold()), RevenueTotals::plus);
+        }
+
+        Map<LocalDateTime, RevenueTotals> hourly = new TreeMap<>();
+        Map<LocalDateTime, RevenueTotals> daily = new TreeMap<>();
+        minutely.forEach((bucket, delta) -> {
+            hourly.merge(bucket.truncatedTo(ChronoUnit.HOURS), delta, RevenueTotals::plus);
+            daily.merge(bucket.truncatedTo(ChronoUnit.DAYS), delta, RevenueTotals::plus);
+        });
+
+        minutely.forEach((bucket, delta) -> minuteRepository.addToBucket(bucket,
+                delta.revenue(), delta.orderCount(), delta.deliveredCount(), delta.unitsSold()));
+        hourly.forEach((bucket, delta) -> hourlyRepository.addToBucket(bucket,
+                delta.revenue(), delta.orderCount(), delta.deliveredCount(), delta.unitsSold()));
+        daily.forEach((bucket, delta) -> dailyRepository.addToBucket(bucket,
+                delta.revenue(), delta.orderCount(), delta.deliveredCount(), delta.unitsSold()));
+        deltaRepository.deleteAllByIdInBatch(deltas.stream().map(RevenueRollupDelta::getId).toList());
+        return deltas.size();
+    }
+
+    private void lockRollups() {
+        if (jobLockRepository.findForUpdate(LOCK_NAME).isEmpty()) {
+            jobLockRepository.saveAndFlush(new JobLock(LOCK_NAME));
+        }
+    }
+
+    private void saveDeltas(Map<LocalDateTime, RevenueTotals> deltas) {
+        deltaRepository.saveAll(deltas.entrySet().stream()
+                .map(entry -> RevenueRollupDelta.builder()
+                        .bucketStart(entry.getKey())
+                        .revenue(entry.getValue().revenue())
+                        .orderCount(entry.getValue().orderCount())
+                        .deliveredCount(entry.getValue().deliveredCount())
+                        .unitsSold(entry.getValue().unitsSold())
+                        .build())
+                .toList());
+    }
+
+    private RevenueTotals summarizeOrders(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return RevenueTotals.ZERO;
+        }
+        return RevenueTotals.fromRows(orderRepository.summarizeRevenueBetween(from, to));
+    }
+
+    private RevenueTotals summarizeHours(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return RevenueTotals.ZERO;
+        }
+        return RevenueTotals.fromRows(hourlyRepository.sumBetween(from, to));
+    }
+
+    private LocalDateTime bucketOf(Order order) {
+        LocalDateTime createdAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        return createdAt.truncatedTo(ChronoUnit.MINUTES);
+    }
+
+    private LocalDateTime ceil(LocalDateTime value, TemporalUnit unit) {
+        LocalDateTime truncated = value.truncatedTo(unit);
+        return truncated.equals(value) ? value : truncated.plus(1, unit);
+    }
+}
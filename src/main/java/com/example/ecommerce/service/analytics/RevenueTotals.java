@@ -0,0 +1,29 @@
+package com.example.ecommerce.service.analytics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+public record RevenueTotals(BigDecimal revenue, long orderCount, long deliveredCount, long unitsSold) {
+
+    public static final RevenueTotals ZERO = new RevenueTotals(BigDecimal.ZERO, 0, 0, 0);
+
+    public static RevenueTotals fromRows(List<Object[]> rows) {
+        if (rows.isEmpty() || rows.get(0)[0] == null) {
+            return ZERO;
+        }
+
+        Object[] row = rows.get(0);
+        return new RevenueTotals(new BigDecimal(row[0].toString()).setScale(2, RoundingMode.HALF_UP),
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                ((Number) row[3]).longValue());
+    }
+
+    public RevenueTotals plus(RevenueTotals other) {
+        return new RevenueTotals(revenue.add(other.revenue),
+                orderCount + other.orderCount,
+                deliveredCount + other.deliveredCount,
+                unitsSold + other.unitsSold);
+    }
+}
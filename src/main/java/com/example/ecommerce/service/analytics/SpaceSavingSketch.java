@@ -0,0 +1,77 @@
+package com.example.ecommerce.service.analytics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+public class SpaceSavingSketch {
+
+    private static final Comparator<Counter> BY_COUNT = Comparator.comparingLong((Counter counter) -> counter.count)
+            .thenComparing(counter -> counter.productId);
+
+    private final int capacity;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> ordered = new TreeSet<>(BY_COUNT);
+    private long total;
+
+    public SpaceSavingSketch(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public synchronized void add(Long productId, String productName, long quantity) {
+        total += quantity;
+
+        Counter counter = counters.get(productId);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count += quantity;
+            counter.productName = productName;
+            ordered.add(counter);
+            return;
+        }
+
+        if (counters.size() < capacity) {
+            counter = new Counter(productId, productName, quantity, 0);
+        } else {
+            Counter evicted = ordered.pollFirst();
+            counters.remove(evicted.productId);
+            counter = new Counter(productId, productName, evicted.count + quantity, evicted.count);
+        }
+        counters.put(productId, counter);
+        ordered.add(counter);
+    }
+
+    public synchronized List<Estimate> estimates() {
+        return counters.values().stream()
+                .map(counter -> new Estimate(counter.productId, counter.productName, counter.count, counter.error))
+                .toList();
+    }
+
+    public synchronized long minCount() {
+        return counters.size() < capacity ? 0 : ordered.first().count;
+    }
+
+    public synchronized long total() {
+        return total;
+    }
+
+    public record Estimate(Long productId, String productName, long count, long error) {
+    }
+
+    private static class Counter {
+
+        private final Long productId;
+        private String productName;
+        private long count;
+        private final long error;
+
+        private Counter(Long productId, String productName, long count, long error) {
+            this.productId = productId;
+            this.productName = productName;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
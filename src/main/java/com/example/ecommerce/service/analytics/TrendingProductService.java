@@ -0,0 +1,160 @@
+package com.example.ecommerce.service.analytics;
+
+import com.example.ecommerce.dto.response.TrendingProduct;
+import com.example.ecommerce.dto.response.TrendingProductsResponse;
+import com.example.ecommerce.model.Order;
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.util.builder.ResponseBuilder;
+import com.example.ecommerce.util.checker.AnalyticsChecker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+@Service
+public class TrendingProductService {
+
+    private static final long MILLIS_PER_HOUR = Duration.ofHours(1).toMillis();
+
+    private final AnalyticsChecker analyticsChecker;
+    private final boolean enabled;
+    private final int capacity;
+    private final int windowHours;
+    private final AtomicReferenceArray<Slot> slots;
+
+    public TrendingProductService(AnalyticsChecker analyticsChecker,
+                                  @Value("${app.trending.enabled:true}") boolean enabled,
+                                  @Value("${app.trending.capacity:256}") int capacity,
+                                  @Value("${app.trending.window-hours:48}") int windowHours) {
+        this.analyticsChecker = analyticsChecker;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.windowHours = windowHours;
+        this.slots = new AtomicReferenceArray<>(windowHours);
+    }
+
+    public void recordDelivered(Order order, OrderStatus previous) {
+        if (!enabled || order.getStatus() != OrderStatus.DELIVERED || previous == OrderStatus.DELIVERED) {
+            return;
+        }
+
+        List<Sale> sales = order.getItems().stream()
+                .map(item -> new Sale(item.getProduct().getId(), item.getProduct().getName(), item.getQuantity()))
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(currentHour(), sales);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(currentHour(), sales);
+            }
+        });
+    }
+
+    public TrendingProductsResponse getTrendingProducts(int limit, int hours) {
+        analyticsChecker.checkLimit(limit);
+        analyticsChecker.checkWindowHours(hours, windowHours);
+
+        return topProducts(currentHour(), limit, hours);
+    }
+
+    TrendingProductsResponse topProducts(long hour, int limit, int hours) {
+        Map<Long, Candidate> candidates = new HashMap<>();
+        long totalSold = 0;
+        long absentBound = 0;
+
+        for (long bucket = hour - hours + 1; bucket <= hour; bucket++) {
+            Slot slot = slots.get(index(bucket));
+            if (slot == null || slot.hour() != bucket) {
+                continue;
+            }
+
+            long minCount = slot.sketch().minCount();
+            totalSold += slot.sketch().total();
+            absentBound += minCount;
+            for (SpaceSavingSketch.Estimate estimate : slot.sketch().estimates()) {
+                candidates.computeIfAbsent(estimate.productId(), id -> new Candidate(estimate.productName()))
+                        .add(estimate, minCount);
+            }
+        }
+
+        long errorBound = absentBound;
+        List<TrendingProduct> products = candidates.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Long, Candidate> entry) -> entry.getValue().count)
+                        .reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(limit)
+                .map(entry -> ResponseBuilder.createTrendingProduct(entry.getKey(), entry.getValue().productName,
+                        entry.getValue().count, entry.getValue().count - entry.getValue().error,
+                        entry.getValue().count + errorBound - entry.getValue().presentMinCount))
+                .toList();
+
+        return ResponseBuilder.createTrendingProductsResponse(products, hours, totalSold,
+                capacity == 0 ? 0 : (totalSold + capacity - 1) / capacity);
+    }
+
+    void record(long hour, List<Sale> sales) {
+        SpaceSavingSketch sketch = sketchFor(hour);
+        if (sketch == null) {
+            return;
+        }
+        for (Sale sale : sales) {
+            sketch.add(sale.productId(), sale.productName(), sale.quantity());
+        }
+    }
+
+    private SpaceSavingSketch sketchFor(long hour) {
+        int index = index(hour);
+        Slot slot = slots.get(index);
+        while (slot == null || slot.hour() < hour) {
+            Slot fresh = new Slot(hour, new SpaceSavingSketch(capacity));
+            if (slots.compareAndSet(index, slot, fresh)) {
+                return fresh.sketch();
+            }
+            slot = slots.get(index);
+        }
+        return slot.hour() == hour ? slot.sketch() : null;
+    }
+
+    private int index(long hour) {
+        return (int) Math.floorMod(hour, (long) windowHours);
+    }
+
+    private long currentHour() {
+        return System.currentTimeMillis() / MILLIS_PER_HOUR;
+    }
+
+    record Sale(Long productId, String productName, long quantity) {
+    }
+
+    private record Slot(long hour, SpaceSavingSketch sketch) {
+    }
+
+    private static class Candidate {
+
+        private final String productName;
+        private long count;
+        private long error;
+        private long presentMinCount;
+
+        private Candidate(String productName) {
+            this.productName = productName;
+        }
+
+        private void add(SpaceSavingSketch.Estimate estimate, long minCount) {
+            count += estimate.count();
+            error += estimate.error();
+            presentMinCount += minCount;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ecommerce.service.export;
+
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+public interface ExportWriter {
+
+    void writeHeader(String[] columns) throws IOException;
+
+    void writeRow(String[] columns, ResultSet row) throws IOException, SQLException;
+
+    void finish() throws IOException;
+}
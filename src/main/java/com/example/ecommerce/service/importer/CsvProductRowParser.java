@@ -0,0 +1,73 @@
+package com.example.ecommerce.service.importer;
+
+import com.example.ecommerce.dto.request.ProductRequest;
+import com.example.ecommerce.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class CsvProductRowParser implements ProductRowParser {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("sku", "name", "price", "stock");
+
+    private final CsvRecordReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long rowNumber;
+
+    public CsvProductRowParser(Reader reader) throws IOException {
+        this.reader = new CsvRecordReader(reader);
+        List<String> header = this.reader.read();
+        if (header == null) {
+            throw new BadRequestException("Import file is empty");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new BadRequestException("Import header is missing column '" + column + "'");
+            }
+        }
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> record;
+        do {
+            record = reader.read();
+            if (record == null) {
+                return null;
+            }
+            rowNumber++;
+        } while (record.size() == 1 && record.get(0).isBlank());
+
+        ProductRequest request = new ProductRequest();
+        request.setSku(value(record, "sku"));
+        request.setName(value(record, "name"));
+        request.setDescription(value(record, "description"));
+        request.setCategory(value(record, "category"));
+        try {
+            String price = value(record, "price");
+            String stock = value(record, "stock");
+            request.setPrice(price == null ? null : new BigDecimal(price));
+            request.setStock(stock == null ? null : Integer.valueOf(stock));
+        } catch (NumberFormatException ex) {
+            return ImportRow.invalid(rowNumber, "Price and stock must be numeric");
+        }
+        return ImportRow.valid(rowNumber, request);
+    }
+
+    private String value(List<String> record, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ecommerce.service.importer;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CsvRecordReader {
+
+    private final Reader reader;
+    private int next = -2;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    public List<String> read() throws IOException {
+        int ch = peek();
+        if (ch == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            ch = take();
+            if (quoted) {
+                if (ch == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (ch == '"') {
+                    if (peek() == '"') {
+                        field.append((char) take());
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) ch);
+                }
+            } else if (ch == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (ch == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (ch == '\r' || ch == '\n' || ch == -1) {
+                if (ch == '\r' && peek() == '\n') {
+                    take();
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) ch);
+            }
+        }
+    }
+
+    private int peek() throws IOException {
+        if (next == -2) {
+            next = reader.read();
+        }
+        return next;
+    }
+
+    private int take() throws IOException {
+        int ch = peek();
+        next = -2;
+        return ch;
+    }
+}
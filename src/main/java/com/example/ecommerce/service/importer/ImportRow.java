@@ -0,0 +1,18 @@
+package com.example.ecommerce.service.importer;
+
+import com.example.ecommerce.dto.request.ProductRequest;
+
+public record ImportRow(long number, ProductRequest request, String error) {
+
+    public static ImportRow valid(long number, ProductRequest request) {
+        return new ImportRow(number, request, null);
+    }
+
+    public static ImportRow invalid(long number, String error) {
+        return new ImportRow(number, null, error);
+    }
+
+    public String sku() {
+        return request == null ? null : request.getSku();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.ecommerce.service.importer;
+
+import com.example.ecommerce.dto.request.ProductRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public class NdjsonProductRowParser implements ProductRowParser {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private long lineNumber;
+
+    public NdjsonProductRowParser(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectReader = objectMapper.readerFor(ProductRequest.class);
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return ImportRow.valid(lineNumber, objectReader.readValue(line));
+        } catch (JsonProcessingException ex) {
+            return ImportRow.invalid(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.ecommerce.service.importer;
+
+import com.example.ecommerce.dto.request.ProductRequest;
+import com.example.ecommerce.dto.response.ProductImportError;
+import com.example.ecommerce.dto.response.ProductImportResponse;
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import com.example.ecommerce.model.vo.DataFormat;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.StockShardService;
+import com.example.ecommerce.service.invalidation.CacheInvalidationBus;
+import com.example.ecommerce.service.outbox.OutboxService;
+import com.example.ecommerce.util.builder.ProductBuilder;
+import com.example.ecommerce.util.builder.ResponseBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class ProductImportService {
+
+    private final ProductRepository productRepository;
+    private final StockShardService stockShardService;
+    private final OutboxService outboxService;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public ProductImportService(ProductRepository productRepository,
+                                StockShardService stockShardService,
+                                OutboxService outboxService,
+                                CacheInvalidationBus cacheInvalidationBus,
+                                EntityManager entityManager,
+                                TransactionTemplate transactionTemplate,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                @Value("${app.product-import.batch-size:500}") int batchSize,
+                                @Value("${app.product-import.max-errors:1000}") int maxErrors) {
+        this.productRepository = productRepository;
+        this.stockShardService = stockShardService;
+        this.outboxService = outboxService;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public ProductImportResponse importProducts(InputStream input, DataFormat format) {
+        long start = System.nanoTime();
+        ImportReport report = new ImportReport();
+        List<ImportRow> chunk = new ArrayList<>(batchSize);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            ProductRowParser parser = format == DataFormat.CSV
+                    ? new CsvProductRowParser(reader)
+                    : new NdjsonProductRowParser(reader, objectMapper);
+
+            ImportRow row;
+            while ((row = parser.next()) != null) {
+                report.total++;
+                String error = row.error() != null ? row.error() : validate(row.request());
+                if (error == null) {
+                    error = report.claimSku(row);
+                }
+                if (error != null) {
+                    report.fail(row, error);
+                    continue;
+                }
+                chunk.add(row);
+                if (chunk.size() >= batchSize) {
+                    write(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                write(chunk, report);
+            }
+        } catch (IOException ex) {
+            throw new BadRequestException("Could not read import: " + ex.getMessage());
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} product rows in {} ms: {} created, {} updated, {} failed",
+                report.total, durationMillis, report.created, report.updated, report.failed);
+        return ResponseBuilder.createProductImportResponse(report.total, report.created, report.updated,
+                report.failed, durationMillis, report.errors);
+    }
+
+    private String validate(ProductRequest request) {
+        if (request.getSku() == null || request.getSku().isBlank()) {
+            return "SKU is required";
+        }
+        Set<ConstraintViolation<ProductRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void write(List<ImportRow> chunk, ImportReport report) {
+        try {
+            int[] counts = transactionTemplate.execute(status -> upsert(chunk));
+            report.created += counts[0];
+            report.updated += counts[1];
+        } catch (RuntimeException ex) {
+            if (chunk.size() == 1) {
+                report.fail(chunk.get(0), NestedExceptionUtils.getMostSpecificCause(ex).getMessage());
+                return;
+            }
+            for (ImportRow row : chunk) {
+                write(List.of(row), report);
+            }
+        }
+    }
+
+    private int[] upsert(List<ImportRow> chunk) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        Set<String> skus = chunk.stream().map(ImportRow::sku).collect(Collectors.toSet());
+        Map<String, Product> products = productRepository.findAllBySkuIn(skus).stream()
+                .collect(Collectors.toMap(Product::getSku, Function.identity()));
+        Map<String, Product> touched = new LinkedHashMap<>();
+        Set<String> created = new HashSet<>();
+
+        for (ImportRow row : chunk) {
+            ProductRequest request = row.request();
+            Product product = products.get(request.getSku());
+            if (product == null) {
+                product = ProductBuilder.fromProductRequest(request);
+                entityManager.persist(product);
+                products.put(request.getSku(), product);
+                created.add(request.getSku());
+            } else {
+                apply(product, request);
+            }
+            touched.put(request.getSku(), product);
+        }
+        entityManager.flush();
+
+        for (Map.Entry<String, Product> entry : touched.entrySet()) {
+            Product product = entry.getValue();
+            if (!created.contains(entry.getKey())) {
+                outboxService.recordProductUpdated(product);
+            }
+            cacheInvalidationBus.publishAfterCommit(CacheInvalidationType.PRODUCT, product.getId(), product.getVersion());
+        }
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationType.CATEGORY, null, null);
+
+        entityManager.flush();
+        entityManager.clear();
+        return new int[]{created.size(), touched.size() - created.size()};
+    }
+
+    private void apply(Product product, ProductRequest request) {
+        product.setName(request.getName());
+        product.setDescription(request.getDescription());
+        product.setPrice(request.getPrice());
+        product.setCategory(request.getCategory());
+        product.setIsActive(true);
+        if (product.isStockSharded()) {
+            stockShardService.redistribute(product, request.getStock());
+        } else {
+            product.setStock(request.getStock());
+        }
+    }
+
+    private class ImportReport {
+
+        private long total;
+        private long created;
+        private long updated;
+        private long failed;
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private final Map<String, Long> skuRows = new HashMap<>();
+
+        private String claimSku(ImportRow row) {
+            Long firstRow = skuRows.putIfAbsent(row.sku(), row.number());
+            return firstRow != null ? "Duplicate SKU, already imported from row " + firstRow : null;
+        }
+
+        private void fail(ImportRow row, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(ProductImportError.builder()
+                        .row(row.number())
+                        .sku(row.sku())
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.ecommerce.service.importer;
+
+import java.io.IOException;
+
+public interface ProductRowParser {
+
+    ImportRow next() throws IOException;
+}
@@ -0,0 +1,192 @@
+package com.example.ecommerce.service.invalidation;
+
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Slf4j
+public class CacheInvalidationBus {
+
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    private static final int LISTEN_POLL_MILLIS = 500;
+    private static final long MAX_RECONNECT_DELAY_MILLIS = 30000;
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final String channel;
+    private final long flushIntervalMillis;
+    private final int maxEventsPerNotification;
+    private final long reconnectDelayMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final BlockingQueue<CacheInvalidationEvent> pending = new LinkedBlockingQueue<>();
+
+    private volatile boolean running;
+    private ExecutorService workers;
+
+    public CacheInvalidationBus(ApplicationEventPublisher eventPublisher,
+                                JdbcTemplate jdbcTemplate,
+                                DataSourceProperties dataSourceProperties,
+                                ObjectMapper objectMapper,
+                                @Value("${app.cache-invalidation.enabled:false}") boolean enabled,
+                                @Value("${app.cache-invalidation.channel:cache_invalidation}") String channel,
+                                @Value("${app.cache-invalidation.flush-interval-ms:50}") long flushIntervalMillis,
+                                @Value("${app.cache-invalidation.max-events-per-notification:100}") int maxEventsPerNotification,
+                                @Value("${app.cache-invalidation.reconnect-delay-ms:1000}") long reconnectDelayMillis) {
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.channel = channel;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxEventsPerNotification = maxEventsPerNotification;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        workers = Executors.newFixedThreadPool(2, new CustomizableThreadFactory("cache-invalidation-"));
+        workers.submit(this::listen);
+        workers.submit(this::send);
+        log.info("Cache invalidation bus started on channel {} as node {}", channel, nodeId);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (workers == null) {
+            return;
+        }
+        running = false;
+        workers.shutdownNow();
+    }
+
+    public void publishAfterCommit(CacheInvalidationType type, Long id, Long version) {
+        CacheInvalidationEvent event = new CacheInvalidationEvent(type, id, version);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(event);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(event);
+            }
+        });
+    }
+
+    public void publish(CacheInvalidationEvent event) {
+        eventPublisher.publishEvent(event);
+        if (running) {
+            pending.offer(event);
+        }
+    }
+
+    private void send() {
+        List<CacheInvalidationEvent> batch = new ArrayList<>();
+        while (running) {
+            try {
+                CacheInvalidationEvent first = pending.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pending.drainTo(batch, maxEventsPerNotification - 1);
+
+                jdbcTemplate.queryForObject(NOTIFY_SQL, String.class, channel,
+                        objectMapper.writeValueAsString(new CacheInvalidationMessage(nodeId, batch)));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (JsonProcessingException | RuntimeException ex) {
+                log.warn("Could not broadcast {} cache invalidations", batch.size(), ex);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void listen() {
+        long delay = reconnectDelayMillis;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                log.info("Listening for cache invalidations on channel {}", channel);
+                delay = reconnectDelayMillis;
+                eventPublisher.publishEvent(new CacheInvalidationEvent(CacheInvalidationType.ALL, null, null));
+
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(LISTEN_POLL_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        dispatch(notification.getParameter());
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Cache invalidation listener lost its connection, reconnecting in {} ms", delay, ex);
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                delay = Math.min(delay * 2, MAX_RECONNECT_DELAY_MILLIS);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            CacheInvalidationMessage message = objectMapper.readValue(payload, CacheInvalidationMessage.class);
+            if (nodeId.equals(message.node())) {
+                return;
+            }
+            message.events().forEach(eventPublisher::publishEvent);
+        } catch (JsonProcessingException ex) {
+            log.warn("Ignoring malformed cache invalidation payload", ex);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.example.ecommerce.service.invalidation;
+
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+
+public record CacheInvalidationEvent(CacheInvalidationType type, Long id, Long version) {
+}
@@ -0,0 +1,6 @@
+package com.example.ecommerce.service.invalidation;
+
+import java.util.List;
+
+public record CacheInvalidationMessage(String node, List<CacheInvalidationEvent> events) {
+}
@@ -0,0 +1,23 @@
+package com.example.ecommerce.service.invalidation;
+
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UserInvalidationListener {
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(User user) {
+        cacheInvalidationBus.publishAfterCommit(CacheInvalidationType.USER, user.getId(), null);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.ecommerce.service.outbox;
+
+import com.example.ecommerce.model.Order;
+import com.example.ecommerce.model.OutboxEvent;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.OutboxAggregateType;
+import com.example.ecommerce.model.vo.OutboxEventType;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrdersPlaced(Collection<Order> orders) {
+        List<OutboxEvent> events = orders.stream()
+                .map(order -> event(OutboxAggregateType.ORDER, order.getId(), OutboxEventType.ORDER_PLACED,
+                        orderPayload(order, true)))
+                .toList();
+        outboxEventRepository.saveAll(events);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrderStatusChanged(Order order) {
+        outboxEventRepository.save(event(OutboxAggregateType.ORDER, order.getId(),
+                OutboxEventType.ORDER_STATUS_CHANGED, orderPayload(order, false)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordOrdersCancelled(Collection<Long> orderIds, Map<Long, Integer> releasedStock) {
+        List<OutboxEvent> events = new ArrayList<>();
+        for (Long orderId : orderIds) {
+            events.add(event(OutboxAggregateType.ORDER, orderId, OutboxEventType.ORDER_CANCELLED,
+                    Map.of("orderId", orderId)));
+        }
+        releasedStock.forEach((productId, quantity) ->
+                events.add(event(OutboxAggregateType.PRODUCT, productId, OutboxEventType.STOCK_RELEASED,
+                        Map.of("productId", productId, "quantity", quantity))));
+        outboxEventRepository.saveAll(events);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordProductUpdated(Product product) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("productId", product.getId());
+        payload.put("name", product.getName());
+        payload.put("price", product.getPrice());
+        payload.put("stock", product.getStock());
+        payload.put("category", product.getCategory());
+        payload.put("active", product.getIsActive());
+
+        outboxEventRepository.save(event(OutboxAggregateType.PRODUCT, product.getId(),
+                OutboxEventType.PRODUCT_UPDATED, payload));
+    }
+
+    private Map<String, Object> orderPayload(Order order, boolean withItems) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("orderId", order.getId());
+        payload.put("orderNumber", order.getOrderNumber());
+        payload.put("status", order.getStatus());
+        payload.put("total", order.getTotal());
+        if (withItems) {
+            payload.put("userId", order.getUser().getId());
+            payload.put("items", order.getItems().stream()
+                    .map(item -> Map.of("productId", item.getProduct().getId(), "quantity", item.getQuantity()))
+                    .toList());
+        }
+        return payload;
+    }
+
+    private OutboxEvent event(OutboxAggregateType aggregateType, Long aggregateId,
+                              OutboxEventType eventType, Map<String, Object> payload) {
+        try {
+            return OutboxEvent.builder()
+                    .aggregateType(aggregateType)
+                    .aggregateId(aggregateId)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build();
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize " + eventType + " event", ex);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.ecommerce.service.outbox;
+
+import com.example.ecommerce.model.OutboxEvent;
+
+import java.util.List;
+
+public interface OutboxSink {
+
+    void publish(List<OutboxEvent> events);
+}
@@ -0,0 +1,163 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.datasource.ReplicaRouting;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.invalidation.CacheInvalidationEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "IN_MEMORY")
+@Slf4j
+public class InMemoryProductSearch implements ProductSearch {
+
+    private static final float NAME_WEIGHT = 3f;
+    private static final float CATEGORY_WEIGHT = 2f;
+    private static final float DESCRIPTION_WEIGHT = 1f;
+
+    private final ProductRepository productRepository;
+    private final int indexPageSize;
+    private final Map<String, Map<Long, Float>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, Set<String>> documentTerms = new ConcurrentHashMap<>();
+
+    public InMemoryProductSearch(ProductRepository productRepository,
+                                 @Value("${app.search.index-page-size:1000}") int indexPageSize) {
+        this.productRepository = productRepository;
+        this.indexPageSize = indexPageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Pageable pageable = PageRequest.of(0, indexPageSize, Sort.by("id"));
+        Set<Long> indexed = new HashSet<>();
+        Page<Product> page;
+        do {
+            page = productRepository.findAllActive(pageable);
+            for (Product product : page.getContent()) {
+                index(product);
+                indexed.add(product.getId());
+            }
+            pageable = page.nextPageable();
+        } while (page.hasNext());
+        documentTerms.keySet().stream()
+                .filter(id -> !indexed.contains(id))
+                .toList()
+                .forEach(this::remove);
+        log.info("Indexed {} products for in-memory search", documentTerms.size());
+    }
+
+    @EventListener
+    public void onInvalidation(CacheInvalidationEvent event) {
+        if (event.type() == CacheInvalidationType.ALL) {
+            ReplicaRouting.onPrimary(() -> {
+                rebuild();
+                return null;
+            });
+            return;
+        }
+        if (event.type() != CacheInvalidationType.PRODUCT || event.id() == null) {
+            return;
+        }
+        ReplicaRouting.onPrimary(() -> productRepository.findById(event.id()))
+                .ifPresentOrElse(this::index, () -> remove(event.id()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Product> search(String query, Pageable pageable) {
+        List<String> terms = SearchTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, Float> scores = null;
+        for (String term : terms) {
+            Map<Long, Float> matches = postings.getOrDefault(term, Map.of());
+            double idf = Math.log(1 + (double) documentTerms.size() / (1 + matches.size()));
+            Map<Long, Float> next = new HashMap<>();
+            for (Map.Entry<Long, Float> match : matches.entrySet()) {
+                if (scores == null || scores.containsKey(match.getKey())) {
+                    float previous = scores == null ? 0f : scores.get(match.getKey());
+                    next.put(match.getKey(), previous + (float) (match.getValue() * idf));
+                }
+            }
+            scores = next;
+        }
+
+        List<Long> ranked = scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Float>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(Map.Entry::getKey)
+                .toList();
+
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+
+        Map<Long, Product> products = productRepository.findAllById(pageIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> content = pageIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return PageableExecutionUtils.getPage(content, pageable, ranked::size);
+    }
+
+    void index(Product product) {
+        remove(product.getId());
+        if (!Boolean.TRUE.equals(product.getIsActive())) {
+            return;
+        }
+
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, product.getName(), NAME_WEIGHT);
+        addTerms(weights, product.getCategory(), CATEGORY_WEIGHT);
+        addTerms(weights, product.getDescription(), DESCRIPTION_WEIGHT);
+
+        weights.forEach((term, weight) ->
+                postings.computeIfAbsent(term, key -> new ConcurrentHashMap<>()).put(product.getId(), weight));
+        documentTerms.put(product.getId(), weights.keySet());
+    }
+
+    private void remove(Long productId) {
+        Set<String> terms = documentTerms.remove(productId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            postings.computeIfPresent(term, (key, documents) -> {
+                documents.remove(productId);
+                return documents.isEmpty() ? null : documents;
+            });
+        }
+    }
+
+    private void addTerms(Map<String, Float> weights, String text, float weight) {
+        for (String term : SearchTokenizer.tokenize(text)) {
+            weights.merge(term, weight, Float::sum);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "LIKE")
+@RequiredArgsConstructor
+public class LikeProductSearch implements ProductSearch {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Product> search(String query, Pageable pageable) {
+        return productRepository.findByNameContainingAndActive(query, pageable);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "POSTGRES", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PostgresProductSearch implements ProductSearch {
+
+    private final ProductRepository productRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Product> search(String query, Pageable pageable) {
+        List<Long> ids = productRepository.searchIdsByFullText(query, pageable.getPageSize(), pageable.getOffset());
+        if (ids.isEmpty() && pageable.getOffset() == 0) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> ranked = ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return PageableExecutionUtils.getPage(ranked, pageable, () -> productRepository.countByFullText(query));
+    }
+}
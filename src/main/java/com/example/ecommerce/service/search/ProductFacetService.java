@@ -0,0 +1,175 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.dto.response.CategoryFacet;
+import com.example.ecommerce.dto.response.FacetedSearchResponse;
+import com.example.ecommerce.dto.response.PriceRangeFacet;
+import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.util.builder.ResponseBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ProductFacetService {
+
+    private static final String AVAILABLE_STOCK = "CASE WHEN p.stock_shards > 1 " +
+            "THEN (SELECT COALESCE(SUM(s.stock), 0) FROM product_stock_shards s WHERE s.product_id = p.id) " +
+            "ELSE p.stock END";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "p.id",
+            "name", "p.name",
+            "price", "p.price",
+            "category", "p.category",
+            "createdAt", "p.created_at");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final boolean fullText;
+    private final List<BigDecimal> priceBuckets;
+
+    public ProductFacetService(NamedParameterJdbcTemplate jdbcTemplate,
+                               ProductRepository productRepository,
+                               @Value("${app.search.engine:POSTGRES}") String engine,
+                               @Value("${app.search.price-buckets:0,25,50,100,250,500,1000}") List<BigDecimal> priceBuckets) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.fullText = "POSTGRES".equalsIgnoreCase(engine);
+        this.priceBuckets = priceBuckets.stream().sorted().toList();
+    }
+
+    @Transactional(readOnly = true)
+    public FacetedSearchResponse search(ProductFilter filter, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = baseConditions(filter, params);
+        String categoryMatch = filter.hasCategory() ? "p.category = :category" : "1 = 1";
+        String priceMatch = priceCondition(filter, params);
+
+        StringBuilder facetSql = new StringBuilder("SELECT p.category, SUM(CASE WHEN ")
+                .append(priceMatch).append(" THEN 1 ELSE 0 END) AS matched");
+        for (int i = 0; i < priceBuckets.size(); i++) {
+            facetSql.append(", SUM(CASE WHEN ").append(categoryMatch)
+                    .append(" AND p.price >= :bucketFrom").append(i);
+            params.addValue("bucketFrom" + i, priceBuckets.get(i));
+            if (i + 1 < priceBuckets.size()) {
+                facetSql.append(" AND p.price < :bucketFrom").append(i + 1);
+            }
+            facetSql.append(" THEN 1 ELSE 0 END) AS bucket").append(i);
+        }
+        facetSql.append(" FROM products p WHERE ").append(where).append(" GROUP BY p.category");
+
+        List<CategoryFacet> categories = new ArrayList<>();
+        long[] bucketCounts = new long[priceBuckets.size()];
+        long total = 0;
+        for (Map<String, Object> row : jdbcTemplate.queryForList(facetSql.toString(), params)) {
+            String category = (String) row.get("category");
+            long matched = number(row.get("matched"));
+            if (!filter.hasCategory() || filter.category().equals(category)) {
+                total += matched;
+            }
+            if (category != null && matched > 0) {
+                categories.add(CategoryFacet.builder().category(category).count(matched).build());
+            }
+            for (int i = 0; i < bucketCounts.length; i++) {
+                bucketCounts[i] += number(row.get("bucket" + i));
+            }
+        }
+        categories.sort((left, right) -> Long.compare(right.getCount(), left.getCount()));
+
+        List<PriceRangeFacet> priceRanges = new ArrayList<>();
+        for (int i = 0; i < bucketCounts.length; i++) {
+            priceRanges.add(PriceRangeFacet.builder()
+                    .minPrice(priceBuckets.get(i))
+                    .maxPrice(i + 1 < priceBuckets.size() ? priceBuckets.get(i + 1) : null)
+                    .count(bucketCounts[i])
+                    .build());
+        }
+
+        Page<ProductResponse> products = new PageImpl<>(total > pageable.getOffset()
+                ? loadPage(where + " AND " + categoryMatch + " AND " + priceMatch, params, pageable)
+                : List.of(), pageable, total);
+
+        return ResponseBuilder.createFacetedSearchResponse(products, categories, priceRanges);
+    }
+
+    private List<ProductResponse> loadPage(String where, MapSqlParameterSource params, Pageable pageable) {
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+        List<Long> ids = jdbcTemplate.queryForList("SELECT p.id FROM products p WHERE " + where +
+                " ORDER BY " + orderBy(pageable.getSort()) + " LIMIT :limit OFFSET :offset", params, Long.class);
+
+        Map<Long, Product> products = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ResponseBuilder::createProductResponse)
+                .toList();
+    }
+
+    private String baseConditions(ProductFilter filter, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder("p.is_active = true");
+        if (filter.hasName()) {
+            if (fullText) {
+                where.append(" AND p.search_vector @@ websearch_to_tsquery('english', :name)");
+                params.addValue("name", filter.name());
+            } else {
+                where.append(" AND LOWER(p.name) LIKE :name");
+                params.addValue("name", "%" + filter.name().toLowerCase(Locale.ROOT) + "%");
+            }
+        }
+        if (filter.inStock()) {
+            where.append(" AND ").append(AVAILABLE_STOCK).append(" > 0");
+        }
+        if (filter.hasCategory()) {
+            params.addValue("category", filter.category());
+        }
+        return where.toString();
+    }
+
+    private String priceCondition(ProductFilter filter, MapSqlParameterSource params) {
+        List<String> conditions = new ArrayList<>();
+        if (filter.minPrice() != null) {
+            conditions.add("p.price >= :minPrice");
+            params.addValue("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            conditions.add("p.price <= :maxPrice");
+            params.addValue("maxPrice", filter.maxPrice());
+        }
+        return conditions.isEmpty() ? "1 = 1" : String.join(" AND ", conditions);
+    }
+
+    private String orderBy(Sort sort) {
+        List<String> columns = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                columns.add(column + (order.isDescending() ? " DESC" : " ASC"));
+            }
+        }
+        columns.add("p.id");
+        return String.join(", ", columns);
+    }
+
+    private long number(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.ecommerce.service.search;
+
+import java.math.BigDecimal;
+
+public record ProductFilter(String name, String category, BigDecimal minPrice, BigDecimal maxPrice, boolean inStock) {
+
+    public boolean hasName() {
+        return name != null && !name.isBlank();
+    }
+
+    public boolean hasCategory() {
+        return category != null && !category.isBlank();
+    }
+}
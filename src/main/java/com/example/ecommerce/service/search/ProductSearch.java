@@ -0,0 +1,10 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface ProductSearch {
+
+    Page<Product> search(String query, Pageable pageable);
+}
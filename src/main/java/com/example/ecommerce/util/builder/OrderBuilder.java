@@ -2,7 +2,9 @@ package com.example.ecommerce.util.builder;
 
 import com.example.ecommerce.dto.request.OrderRequest;
 import com.example.ecommerce.model.Order;
+import com.example.ecommerce.model.OrderIdempotencyKey;
 import com.example.ecommerce.model.User;
+import com.example.ecommerce.util.generator.RequestHashGenerator;
 import lombok.experimental.UtilityClass;
 
 import java.math.BigDecimal;
@@ -18,8 +20,12 @@ public final class OrderBuilder {
                 .build();
     }
 
-
-    public String generateOrderNumber() {
-        return "ORD-" + System.currentTimeMillis() + "-" + (int) (Math.random() * 1000);
+    public OrderIdempotencyKey createIdempotencyKey(Order order, OrderRequest request, String idempotencyKey) {
+        return OrderIdempotencyKey.builder()
+                .userId(order.getUser().getId())
+                .idempotencyKey(idempotencyKey)
+                .orderId(order.getId())
+                .requestHash(RequestHashGenerator.hash(request))
+                .build();
     }
 }
\ No newline at end of file
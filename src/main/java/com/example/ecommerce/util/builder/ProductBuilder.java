@@ -9,6 +9,7 @@ public class ProductBuilder {
 
     public Product fromProductRequest(ProductRequest request) {
         return Product.builder()
+                .sku(request.getSku())
                 .name(request.getName())
                 .description(request.getDescription())
                 .price(request.getPrice())
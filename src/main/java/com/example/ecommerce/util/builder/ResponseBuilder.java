@@ -4,12 +4,16 @@ import com.example.ecommerce.dto.response.*;
 import com.example.ecommerce.model.Order;
 import com.example.ecommerce.model.OrderItem;
 import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.RevenueRollup;
 import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
 import lombok.experimental.UtilityClass;
+import org.springframework.data.domain.Page;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 @UtilityClass
 public final class ResponseBuilder {
@@ -30,13 +34,56 @@ public final class ResponseBuilder {
                 .build();
     }
 
-    public TopSellingProduct createTopSellingProduct(Long productId, String productName,
-                                                     Long totalSold, BigDecimal totalRevenue) {
-        return TopSellingProduct.builder()
+    public TrendingProductsResponse createTrendingProductsResponse(List<TrendingProduct> products, int hours,
+                                                                   long totalSold, long errorBound) {
+        return TrendingProductsResponse.builder()
+                .products(products)
+                .period("Last " + hours + " hours")
+                .totalSold(totalSold)
+                .errorBound(errorBound)
+                .reportGeneratedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public TrendingProduct createTrendingProduct(Long productId, String productName,
+                                                 long estimatedSold, long minimumSold, long maximumSold) {
+        return TrendingProduct.builder()
                 .productId(productId)
                 .productName(productName)
-                .totalSold(totalSold)
-                .totalRevenue(totalRevenue)
+                .estimatedSold(estimatedSold)
+                .minimumSold(minimumSold)
+                .maximumSold(maximumSold)
+                .build();
+    }
+
+    public TimeSeriesResponse createTimeSeriesResponse(TimeSeriesGranularity granularity, LocalDateTime from,
+                                                       LocalDateTime to, List<TimeSeriesPoint> points) {
+        return TimeSeriesResponse.builder()
+                .granularity(granularity)
+                .from(from)
+                .to(to)
+                .points(points)
+                .reportGeneratedAt(LocalDateTime.now())
+                .build();
+    }
+
+    public TimeSeriesPoint createTimeSeriesPoint(LocalDateTime bucketStart, RevenueRollup rollup) {
+        return TimeSeriesPoint.builder()
+                .bucketStart(bucketStart)
+                .revenue(rollup.getRevenue())
+                .orders(rollup.getOrderCount())
+                .deliveredOrders(rollup.getDeliveredCount())
+                .unitsSold(rollup.getUnitsSold())
+                .build();
+    }
+
+    public TimeSeriesPoint createEmptyTimeSeriesPoint(LocalDateTime bucketStart) {
+        return TimeSeriesPoint.builder()
+                .bucketStart(bucketStart)
+                .revenue(BigDecimal.ZERO)
+                .orders(0L)
+                .deliveredOrders(0L)
+                .unitsSold(0L)
                 .build();
     }
 
@@ -95,6 +142,7 @@ public final class ResponseBuilder {
     public ProductResponse createProductResponse(Product product) {
         return ProductResponse.builder()
                 .id(product.getId())
+                .sku(product.getSku())
                 .name(product.getName())
                 .description(product.getDescription())
                 .price(product.getPrice())
@@ -107,6 +155,10 @@ public final class ResponseBuilder {
     }
 
     public OrderResponse createOrderResponse(Order order) {
+        return createOrderResponse(order, order.getItems());
+    }
+
+    public OrderResponse createOrderResponse(Order order, List<OrderItem> items) {
         return OrderResponse.builder()
                 .id(order.getId())
                 .orderNumber(order.getOrderNumber())
@@ -117,12 +169,80 @@ public final class ResponseBuilder {
                 .shippingAddress(order.getShippingAddress())
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
-                .items(order.getItems().stream()
+                .items(items.stream()
                         .map(ResponseBuilder::createOrderItemResponse)
                         .toList())
                 .build();
     }
 
+    public BatchOrderResult createBatchOrderSuccess(int index, Order order) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .success(true)
+                .order(createOrderResponse(order))
+                .build();
+    }
+
+    public BatchOrderResult createBatchOrderFailure(int index, RuntimeException error) {
+        return BatchOrderResult.builder()
+                .index(index)
+                .success(false)
+                .message(error.getMessage())
+                .error(error)
+                .build();
+    }
+
+    public BatchOrderResponse createBatchOrderResponse(List<BatchOrderResult> results) {
+        int placed = (int) results.stream().filter(BatchOrderResult::getSuccess).count();
+        return BatchOrderResponse.builder()
+                .placedOrders(placed)
+                .failedOrders(results.size() - placed)
+                .results(results)
+                .build();
+    }
+
+    public BulkCancelResponse createBulkCancelResponse(int requested, int cancelled) {
+        return BulkCancelResponse.builder()
+                .requestedOrders(requested)
+                .cancelledOrders(cancelled)
+                .skippedOrders(requested - cancelled)
+                .build();
+    }
+
+    public FacetedSearchResponse createFacetedSearchResponse(Page<ProductResponse> products,
+                                                             List<CategoryFacet> categories,
+                                                             List<PriceRangeFacet> priceRanges) {
+        return FacetedSearchResponse.builder()
+                .products(products)
+                .categories(categories)
+                .priceRanges(priceRanges)
+                .build();
+    }
+
+    public <T, R> CursorPage<R> createCursorPage(List<T> rows, int size,
+                                                 Function<List<T>, List<R>> mapper, Function<T, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> page = hasNext ? rows.subList(0, size) : rows;
+        return CursorPage.<R>builder()
+                .content(mapper.apply(page))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+
+    public ProductImportResponse createProductImportResponse(long total, long created, long updated, long failed,
+                                                             long durationMillis, List<ProductImportError> errors) {
+        return ProductImportResponse.builder()
+                .totalRows(total)
+                .createdProducts(created)
+                .updatedProducts(updated)
+                .failedRows(failed)
+                .durationMillis(durationMillis)
+                .errors(errors)
+                .build();
+    }
+
     public OrderItemResponse createOrderItemResponse(OrderItem item) {
         return OrderItemResponse.builder()
                 .id(item.getId())
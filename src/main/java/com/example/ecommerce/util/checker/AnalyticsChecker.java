@@ -0,0 +1,40 @@
+package com.example.ecommerce.util.checker;
+
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class AnalyticsChecker {
+
+    private static final int MAX_LIMIT = 100;
+    private static final int MAX_TIME_SERIES_POINTS = 2000;
+
+    public void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    public void checkTimeSeries(TimeSeriesGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                int minuteRetentionDays) {
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Time series start must be before its end");
+        }
+        if (granularity.getUnit().between(from, to) > MAX_TIME_SERIES_POINTS) {
+            throw new BadRequestException("Time series cannot exceed " + MAX_TIME_SERIES_POINTS + " points");
+        }
+        if (granularity == TimeSeriesGranularity.MINUTE
+                && from.isBefore(LocalDateTime.now().minusDays(minuteRetentionDays))) {
+            throw new BadRequestException("Minute series are only kept for the last " + minuteRetentionDays + " days");
+        }
+    }
+
+    public void checkWindowHours(int hours, int maxHours) {
+        if (hours < 1 || hours > maxHours) {
+            throw new BadRequestException("Window must be between 1 and " + maxHours + " hours");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.ecommerce.util.checker;
+
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.model.vo.ExportDataset;
+import com.example.ecommerce.model.vo.OrderStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ExportChecker {
+
+    public void checkFilters(ExportDataset dataset, LocalDateTime from, LocalDateTime to, OrderStatus status) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BadRequestException("Export range start must be before its end");
+        }
+        if (status != null && dataset == ExportDataset.PRODUCTS) {
+            throw new BadRequestException("Products cannot be filtered by order status");
+        }
+    }
+}
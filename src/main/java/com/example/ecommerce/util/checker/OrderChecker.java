@@ -3,6 +3,7 @@ package com.example.ecommerce.util.checker;
 import com.example.ecommerce.exception.BadRequestException;
 import com.example.ecommerce.exception.InsufficientStockException;
 import com.example.ecommerce.exception.ResourceNotFoundException;
+import com.example.ecommerce.exception.UnprocessableEntityException;
 import com.example.ecommerce.model.Order;
 import com.example.ecommerce.model.Product;
 import com.example.ecommerce.model.User;
@@ -18,6 +19,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OrderChecker {
 
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
 
@@ -42,6 +45,20 @@ public class OrderChecker {
         }
     }
 
+    public void checkIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new BadRequestException(
+                    "Idempotency-Key must be between 1 and " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+    }
+
+    public void checkSameIdempotentRequest(String storedHash, String requestHash, String idempotencyKey) {
+        if (!requestHash.equals(storedHash)) {
+            throw new UnprocessableEntityException(
+                    "Idempotency-Key '" + idempotencyKey + "' was already used with a different request");
+        }
+    }
+
     public void checkUserOwnsOrder(Order order, Long userId) {
         if (!order.getUser().getId().equals(userId)) {
             throw new BadRequestException("Access denied");
@@ -1,15 +1,21 @@
 package com.example.ecommerce.util.checker;
 
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.exception.ResourceAlreadyExistsException;
 import com.example.ecommerce.exception.ResourceNotFoundException;
 import com.example.ecommerce.model.Product;
 import com.example.ecommerce.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+
 @Component
 @RequiredArgsConstructor
 public class ProductChecker {
 
+    private static final int MAX_STOCK_SHARDS = 64;
+
     private final ProductRepository productRepository;
 
     public Product checkProductExists(Long productId) {
@@ -17,4 +23,28 @@ public class ProductChecker {
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
     }
 
+    public void checkSkuAvailable(String sku) {
+        if (sku != null && productRepository.existsBySku(sku)) {
+            throw new ResourceAlreadyExistsException("Product", "sku", sku);
+        }
+    }
+
+    public void checkSkuAvailable(String sku, Long productId) {
+        if (sku != null && productRepository.existsBySkuAndIdNot(sku, productId)) {
+            throw new ResourceAlreadyExistsException("Product", "sku", sku);
+        }
+    }
+
+    public void checkPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new BadRequestException("Minimum price must not exceed maximum price");
+        }
+    }
+
+    public void checkStockShardCount(int shardCount) {
+        if (shardCount < 0 || shardCount > MAX_STOCK_SHARDS) {
+            throw new BadRequestException("Stock shard count must be between 0 and " + MAX_STOCK_SHARDS);
+        }
+    }
+
 }
\ No newline at end of file
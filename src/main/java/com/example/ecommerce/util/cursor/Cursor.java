@@ -0,0 +1,4 @@
+package com.example.ecommerce.util.cursor;
+
+public record Cursor(String key, Long id) {
+}
@@ -0,0 +1,54 @@
+package com.example.ecommerce.util.generator;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OrderNumberGenerator {
+
+    public static final String PREFIX = "ORD-";
+
+    static final long EPOCH_MILLIS = 1704067200000L;
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public OrderNumberGenerator(@Value("${app.order-number.node-id:-1}") long nodeId) {
+        if (nodeId < 0) {
+            throw new IllegalStateException(
+                    "app.order-number.node-id (ORDER_NODE_ID) must be set to a value unique to this node");
+        }
+        if (nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Order number node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public String generate() {
+        return PREFIX + nextId();
+    }
+
+    public long nextId() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        long tick;
+        long next;
+        do {
+            tick = lastTick.get();
+            next = now > (tick >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : tick + 1;
+        } while (!lastTick.compareAndSet(tick, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        long sequence = next & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.ecommerce.util.generator;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@UtilityClass
+public final class RequestHashGenerator {
+
+    public String hash(OrderRequest request) {
+        StringBuilder canonical = new StringBuilder();
+        for (OrderItemRequest item : request.getItems()) {
+            canonical.append(item.getProductId()).append(':').append(item.getQuantity()).append(',');
+        }
+        canonical.append('|');
+        if (request.getShippingAddress() != null) {
+            canonical.append(request.getShippingAddress());
+        }
+        return sha256(canonical.toString());
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+--liquibase formatted sql
+
+--changeset ecommerce:002-product-stock-shards
+ALTER TABLE products ADD COLUMN stock_shards INTEGER NOT NULL DEFAULT 0 CHECK (stock_shards >= 0);
+
+CREATE TABLE IF NOT EXISTS product_stock_shards (
+    id BIGSERIAL PRIMARY KEY,
+    product_id BIGINT NOT NULL REFERENCES products (id) ON DELETE CASCADE,
+    shard_no INTEGER NOT NULL CHECK (shard_no >= 0),
+    stock INTEGER NOT NULL DEFAULT 0 CHECK (stock >= 0),
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW(),
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+    CONSTRAINT uk_product_stock_shards_product_shard UNIQUE (product_id, shard_no)
+);
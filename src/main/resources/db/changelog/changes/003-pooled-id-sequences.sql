@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset ecommerce:003-pooled-id-sequences
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE products_id_seq INCREMENT BY 50;
+ALTER SEQUENCE orders_id_seq INCREMENT BY 50;
+ALTER SEQUENCE order_items_id_seq INCREMENT BY 50;
+ALTER SEQUENCE product_stock_shards_id_seq INCREMENT BY 50;
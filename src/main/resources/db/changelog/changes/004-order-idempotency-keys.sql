@@ -0,0 +1,19 @@
+--liquibase formatted sql
+
+--changeset ecommerce:004-order-idempotency-keys
+CREATE SEQUENCE IF NOT EXISTS order_idempotency_keys_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS order_idempotency_keys (
+    id BIGINT PRIMARY KEY DEFAULT nextval('order_idempotency_keys_id_seq'),
+    user_id BIGINT NOT NULL REFERENCES users (id),
+    idempotency_key VARCHAR(100) NOT NULL,
+    order_id BIGINT NOT NULL REFERENCES orders (id) ON DELETE CASCADE,
+    request_hash VARCHAR(64) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    updated_at TIMESTAMP DEFAULT NOW(),
+    created_by VARCHAR(255),
+    updated_by VARCHAR(255),
+    CONSTRAINT uk_order_idempotency_keys_user_key UNIQUE (user_id, idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_idempotency_keys_created_at ON order_idempotency_keys (created_at);
@@ -0,0 +1,4 @@
+--liquibase formatted sql
+
+--changeset ecommerce:005-orders-status-created-at-index
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at, id);
@@ -0,0 +1,5 @@
+--liquibase formatted sql
+
+--changeset ecommerce:008-products-facet-indexes
+CREATE INDEX IF NOT EXISTS idx_products_active_category_price ON products (is_active, category, price);
+CREATE INDEX IF NOT EXISTS idx_products_active_price ON products (is_active, price);
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset ecommerce:009-keyset-pagination-indexes
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id ON orders (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_orders_user_created_at_id ON orders (user_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_products_active_name_id ON products (name, id) WHERE is_active = true;
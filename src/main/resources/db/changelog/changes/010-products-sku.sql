@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset ecommerce:010-products-sku
+ALTER TABLE products ADD COLUMN IF NOT EXISTS sku VARCHAR(100);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_products_sku ON products (sku);
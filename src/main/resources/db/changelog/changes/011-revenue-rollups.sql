@@ -0,0 +1,29 @@
+--liquibase formatted sql
+
+--changeset ecommerce:011-revenue-rollups
+CREATE TABLE IF NOT EXISTS revenue_rollups_hourly (
+    bucket_start TIMESTAMP PRIMARY KEY,
+    revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    delivered_count BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE TABLE IF NOT EXISTS revenue_rollups_daily (
+    bucket_start TIMESTAMP PRIMARY KEY,
+    revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    delivered_count BIGINT NOT NULL DEFAULT 0
+);
+
+INSERT INTO revenue_rollups_hourly (bucket_start, revenue, order_count, delivered_count)
+SELECT date_trunc('hour', created_at),
+       SUM(CASE WHEN status = 'DELIVERED' THEN total ELSE 0 END),
+       COUNT(*),
+       SUM(CASE WHEN status = 'DELIVERED' THEN 1 ELSE 0 END)
+FROM orders
+GROUP BY date_trunc('hour', created_at);
+
+INSERT INTO revenue_rollups_daily (bucket_start, revenue, order_count, delivered_count)
+SELECT date_trunc('day', bucket_start), SUM(revenue), SUM(order_count), SUM(delivered_count)
+FROM revenue_rollups_hourly
+GROUP BY date_trunc('day', bucket_start);
@@ -0,0 +1,40 @@
+--liquibase formatted sql
+
+--changeset ecommerce:012-revenue-rollups-units-and-minutes
+ALTER TABLE revenue_rollups_hourly ADD COLUMN IF NOT EXISTS units_sold BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE revenue_rollups_daily ADD COLUMN IF NOT EXISTS units_sold BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS revenue_rollups_minutely (
+    bucket_start TIMESTAMP PRIMARY KEY,
+    revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    delivered_count BIGINT NOT NULL DEFAULT 0,
+    units_sold BIGINT NOT NULL DEFAULT 0
+);
+
+UPDATE revenue_rollups_hourly h
+SET units_sold = u.units
+FROM (SELECT date_trunc('hour', o.created_at) AS bucket_start, SUM(oi.quantity) AS units
+      FROM orders o
+      JOIN order_items oi ON oi.order_id = o.id
+      WHERE o.status = 'DELIVERED'
+      GROUP BY date_trunc('hour', o.created_at)) u
+WHERE h.bucket_start = u.bucket_start;
+
+UPDATE revenue_rollups_daily d
+SET units_sold = u.units
+FROM (SELECT date_trunc('day', bucket_start) AS bucket_start, SUM(units_sold) AS units
+      FROM revenue_rollups_hourly
+      GROUP BY date_trunc('day', bucket_start)) u
+WHERE d.bucket_start = u.bucket_start;
+
+INSERT INTO revenue_rollups_minutely (bucket_start, revenue, order_count, delivered_count, units_sold)
+SELECT date_trunc('minute', o.created_at),
+       SUM(CASE WHEN o.status = 'DELIVERED' THEN o.total ELSE 0 END),
+       COUNT(*),
+       SUM(CASE WHEN o.status = 'DELIVERED' THEN 1 ELSE 0 END),
+       COALESCE(SUM(CASE WHEN o.status = 'DELIVERED'
+                         THEN (SELECT SUM(oi.quantity) FROM order_items oi WHERE oi.order_id = o.id) END), 0)
+FROM orders o
+WHERE o.created_at >= date_trunc('day', now()) - INTERVAL '7 days'
+GROUP BY date_trunc('minute', o.created_at);
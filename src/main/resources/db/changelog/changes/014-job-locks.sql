@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset ecommerce:014-job-locks
+CREATE TABLE IF NOT EXISTS job_locks (
+    name VARCHAR(64) PRIMARY KEY
+);
+
+INSERT INTO job_locks (name) VALUES ('revenue-rollup') ON CONFLICT (name) DO NOTHING;
@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset ecommerce:015-revenue-rollup-deltas
+CREATE SEQUENCE IF NOT EXISTS revenue_rollup_deltas_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS revenue_rollup_deltas (
+    id BIGINT PRIMARY KEY DEFAULT nextval('revenue_rollup_deltas_id_seq'),
+    bucket_start TIMESTAMP NOT NULL,
+    revenue NUMERIC(14, 2) NOT NULL,
+    order_count BIGINT NOT NULL,
+    delivered_count BIGINT NOT NULL,
+    units_sold BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revenue_rollup_deltas_bucket_start ON revenue_rollup_deltas (bucket_start);
@@ -0,0 +1,131 @@
+package com.example.ecommerce.controller;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import com.example.ecommerce.security.UserPrincipal;
+import com.example.ecommerce.service.OrderService;
+import org.hibernate.LazyInitializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest(properties = {
+        "spring.jpa.open-in-view=false",
+        "spring.jpa.properties.hibernate.enable_lazy_load_no_trans=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LazyLoadingEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserPrincipal buyer;
+    private UserPrincipal admin;
+    private Long productId;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        buyer = UserPrincipal.create(storedUser("lazy-endpoint-buyer", Role.USER));
+        admin = UserPrincipal.create(storedUser("lazy-endpoint-admin", Role.ADMIN));
+
+        Product product = productRepository.save(Product.builder()
+                .name("Lazy Endpoint Product")
+                .category("Guards")
+                .price(BigDecimal.TEN)
+                .stock(100)
+                .build());
+        productId = product.getId();
+        orderId = orderService.placeOrder(new OrderRequest(List.of(new OrderItemRequest(productId, 2)), "Guard street"),
+                buyer.getId(), null).getId();
+    }
+
+    @Test
+    void productEndpoints_RenderWithoutOpenSession() throws Exception {
+        assertRendered("/api/v1/products", buyer);
+        assertRendered("/api/v1/products/cursor", buyer);
+        assertRendered("/api/v1/products/search?name=Lazy", buyer);
+        assertRendered("/api/v1/products/search/faceted?name=Lazy", buyer);
+        assertRendered("/api/v1/products/" + productId, buyer);
+        assertRendered("/api/v1/products/categories", buyer);
+        assertRendered("/api/v1/products/low-stock?threshold=1000", admin);
+        assertRendered("/api/v1/products/count", admin);
+    }
+
+    @Test
+    void orderEndpoints_RenderWithoutOpenSession() throws Exception {
+        MvcResult order = assertRendered("/api/v1/orders/" + orderId, buyer);
+        assertTrue(order.getResponse().getContentAsString().contains("Lazy Endpoint Product"));
+
+        assertRendered("/api/v1/orders", buyer);
+        assertRendered("/api/v1/orders/cursor", buyer);
+        assertRendered("/api/v1/orders/all", admin);
+        assertRendered("/api/v1/orders/all/cursor", admin);
+        assertRendered("/api/v1/orders/admin/" + orderId, admin);
+    }
+
+    @Test
+    void analyticsEndpoints_RenderWithoutOpenSession() throws Exception {
+        assertRendered("/api/v1/admin/analytics/top-products", admin);
+        assertRendered("/api/v1/admin/analytics/trending", admin);
+        assertRendered("/api/v1/admin/analytics/low-stock?threshold=1000", admin);
+        assertRendered("/api/v1/admin/analytics/revenue-report", admin);
+        assertRendered("/api/v1/admin/analytics/timeseries", admin);
+        assertRendered("/api/v1/admin/analytics/dashboard", admin);
+    }
+
+    private MvcResult assertRendered(String path, UserPrincipal principal) throws Exception {
+        MvcResult result = mockMvc.perform(get(path).with(user(principal))).andReturn();
+
+        assertFalse(causedByLazyLoading(result.getResolvedException()), path);
+        assertEquals(200, result.getResponse().getStatus(), path);
+        return result;
+    }
+
+    private boolean causedByLazyLoading(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof LazyInitializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private User storedUser(String username, Role role) {
+        return userRepository.findByUsername(username).orElseGet(() -> userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .passwordHash("hash")
+                .role(role)
+                .build()));
+    }
+}
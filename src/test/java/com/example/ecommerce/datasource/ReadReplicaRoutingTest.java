@@ -0,0 +1,153 @@
+package com.example.ecommerce.datasource;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.ProductCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "app.datasource.replica.enabled=true",
+        "app.datasource.replica.jdbc-url=jdbc:h2:mem:replicadb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "app.datasource.replica.driver-class-name=org.h2.Driver",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.password=password",
+        "app.datasource.replica.pool-name=replica-test-pool"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductCacheService productCacheService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRouting.clear();
+    }
+
+    @Test
+    void readOnlyTransaction_InRequest_RoutesToReplica() {
+        ReplicaRouting.start(false);
+
+        assertTrue(databaseUrl(true).contains("replicadb"));
+    }
+
+    @Test
+    void readOnlyTransaction_OutsideRequest_RoutesToPrimary() {
+        assertTrue(databaseUrl(true).contains("testdb"));
+    }
+
+    @Test
+    void readWriteTransaction_RoutesToPrimary() {
+        assertTrue(databaseUrl(false).contains("testdb"));
+    }
+
+    @Test
+    void outsideTransaction_RoutesToPrimary() {
+        assertTrue(currentUrl().contains("testdb"));
+    }
+
+    @Test
+    void readOnlyTransaction_AfterWriteInSameRequest_RoutesToPrimary() {
+        ReplicaRouting.start(false);
+
+        assertTrue(databaseUrl(true).contains("replicadb"));
+        databaseUrl(false);
+        assertTrue(databaseUrl(true).contains("testdb"));
+    }
+
+    @Test
+    void onPrimary_ReadOnlyTransaction_RoutesToPrimary() {
+        assertTrue(ReplicaRouting.onPrimary(() -> databaseUrl(true)).contains("testdb"));
+        assertNull(ReplicaRouting.current());
+    }
+
+    @Test
+    void repositoryReadOnlyTransaction_OutsideRequest_RoutesToPrimary() {
+        Product product = productRepository.save(Product.builder()
+                .name("Routing Product")
+                .price(BigDecimal.TEN)
+                .build());
+        double replicaConnections = replicaConnections();
+
+        assertTrue(productRepository.findById(product.getId()).isPresent());
+        assertEquals(replicaConnections, replicaConnections());
+    }
+
+    @Test
+    void cacheLoad_InRequest_ReadsReplicaUntilInvalidated() {
+        ReplicaRouting.start(false);
+        AtomicReference<String> url = new AtomicReference<>();
+
+        productCacheService.getPage("routing-test-before", PageRequest.of(0, 1), () -> {
+            url.set(databaseUrl(true));
+            return Page.empty(PageRequest.of(0, 1));
+        });
+        assertTrue(url.get().contains("replicadb"));
+
+        productCacheService.invalidateListings();
+        productCacheService.getPage("routing-test-after", PageRequest.of(0, 1), () -> {
+            url.set(databaseUrl(true));
+            return Page.empty(PageRequest.of(0, 1));
+        });
+        assertTrue(url.get().contains("testdb"));
+    }
+
+    @Test
+    void filter_PrimaryConsistencyHeader_RoutesReadsToPrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders/1");
+        request.addHeader(ReplicaRouting.CONSISTENCY_HEADER, ReplicaRouting.PRIMARY_CONSISTENCY);
+        AtomicReference<String> url = new AtomicReference<>();
+
+        new ReplicaRoutingFilter().doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> url.set(databaseUrl(true)));
+
+        assertTrue(url.get().contains("testdb"));
+        assertNull(ReplicaRouting.current());
+    }
+
+    private String databaseUrl(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> currentUrl());
+    }
+
+    private double replicaConnections() {
+        return meterRegistry.get("datasource.routing.connections").tag("route", "replica").counter().count();
+    }
+
+    private String currentUrl() {
+        return jdbcTemplate.execute((ConnectionCallback<String>) con -> con.getMetaData().getURL());
+    }
+}
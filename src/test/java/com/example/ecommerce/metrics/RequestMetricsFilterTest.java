@@ -0,0 +1,68 @@
+package com.example.ecommerce.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RequestMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestMetricsFilter(meterRegistry, Duration.ofSeconds(10), 1);
+    }
+
+    @Test
+    void doFilter_StatementsRecorded_ExposedAsServerTimingAndMetrics() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/orders/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            RequestMetrics metrics = RequestMetrics.current();
+            metrics.recordStatement("select * from orders where id=?");
+            metrics.recordStatement("select * from order_items where order_id=?");
+            metrics.recordOrm(Duration.ofMillis(3).toNanos());
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/orders/{id}");
+        });
+
+        String serverTiming = response.getHeader(RequestMetrics.SERVER_TIMING);
+        assertNotNull(serverTiming);
+        assertTrue(serverTiming.startsWith("orm;dur=3.0;desc=\"2 statements\""), serverTiming);
+        assertTrue(serverTiming.contains("total;dur="), serverTiming);
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.statements")
+                .tag("uri", "/api/v1/orders/{id}")
+                .summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        assertNull(RequestMetrics.current());
+    }
+
+    @Test
+    void recordStatement_OverCaptureLimit_CountsButDoesNotKeepSql() {
+        RequestMetrics metrics = RequestMetrics.start(1);
+        try {
+            metrics.recordStatement("select 1");
+            metrics.recordStatement("select 2");
+
+            assertEquals(2, metrics.getStatementCount());
+            assertEquals(1, metrics.getStatements().size());
+        } finally {
+            RequestMetrics.clear();
+        }
+    }
+}
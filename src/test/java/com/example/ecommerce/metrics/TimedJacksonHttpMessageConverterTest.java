@@ -0,0 +1,52 @@
+package com.example.ecommerce.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimedJacksonHttpMessageConverterTest {
+
+    private final TimedJacksonHttpMessageConverter converter = new TimedJacksonHttpMessageConverter(new ObjectMapper());
+
+    @AfterEach
+    void tearDown() {
+        RequestMetrics.clear();
+    }
+
+    @Test
+    void write_StreamsBodyAfterServerTimingHeader() throws Exception {
+        RequestMetrics metrics = RequestMetrics.start(10);
+        HttpHeaders headers = new HttpHeaders();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        HttpOutputMessage outputMessage = new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                assertNotNull(headers.getFirst(RequestMetrics.SERVER_TIMING));
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return headers;
+            }
+        };
+
+        converter.write(Map.of("name", "Lamp"), MediaType.APPLICATION_JSON, outputMessage);
+
+        assertEquals("{\"name\":\"Lamp\"}", body.toString(StandardCharsets.UTF_8));
+        assertTrue(metrics.isHeaderWritten());
+        assertTrue(metrics.getSerializationNanos() > 0);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ecommerce.security;
+
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CustomUserDetailsServiceTest {
+
+    @Autowired
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void loadUserById_RoleAndActiveFlagChanged_ReturnsFreshPrincipal() {
+        User user = userRepository.save(User.builder()
+                .username("cached-principal")
+                .email("cached-principal@example.com")
+                .passwordHash("hashedPassword")
+                .role(Role.USER)
+                .build());
+        assertEquals("ROLE_USER", authority(customUserDetailsService.loadUserById(user.getId())));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            User stored = userRepository.findById(user.getId()).orElseThrow();
+            stored.setRole(Role.ADMIN);
+            stored.setIsActive(false);
+        });
+
+        UserDetails principal = customUserDetailsService.loadUserById(user.getId());
+        assertEquals("ROLE_ADMIN", authority(principal));
+        assertFalse(principal.isEnabled());
+    }
+
+    private String authority(UserDetails principal) {
+        return principal.getAuthorities().iterator().next().getAuthority();
+    }
+}
@@ -1,24 +1,28 @@
 package com.example.ecommerce.service;
 
 import com.example.ecommerce.dto.response.RevenueReport;
+import com.example.ecommerce.dto.response.TopSellingProduct;
 import com.example.ecommerce.dto.response.TopSellingProductsResponse;
 import com.example.ecommerce.repository.OrderItemRepository;
-import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.service.analytics.RevenueRollupService;
+import com.example.ecommerce.service.analytics.RevenueTotals;
+import com.example.ecommerce.util.checker.AnalyticsChecker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,27 +30,30 @@ import static org.mockito.Mockito.when;
 class AnalyticsServiceTest {
 
     @Mock
-    private OrderRepository orderRepository;
+    private RevenueRollupService revenueRollupService;
 
     @Mock
     private OrderItemRepository orderItemRepository;
 
+    @Mock
+    private AnalyticsChecker analyticsChecker;
+
     @InjectMocks
     private AnalyticsService analyticsService;
 
-    private Object[] topSellingProductData;
+    private TopSellingProduct topSellingProduct;
 
     @BeforeEach
     void setUp() {
 
-        topSellingProductData = new Object[]{1L, "Test Product", 50L, BigDecimal.valueOf(5000)};
+        topSellingProduct = new TopSellingProduct(1L, "Test Product", 50L, BigDecimal.valueOf(5000));
     }
 
     @Test
     void getTopSellingProducts_Success() {
-        List<Object[]> mockData = Arrays.asList(new Object[][]{topSellingProductData});
-        when(orderItemRepository.findTopSellingProducts(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(mockData);
+        when(orderItemRepository.findTopSellingProducts(any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(PageRequest.of(0, 10))))
+                .thenReturn(List.of(topSellingProduct));
 
         TopSellingProductsResponse result = analyticsService.getTopSellingProducts(10, 30);
 
@@ -54,32 +61,27 @@ class AnalyticsServiceTest {
         assertEquals(1, result.getProducts().size());
         assertEquals("Test Product", result.getProducts().get(0).getProductName());
         assertEquals("Last 30 days", result.getPeriod());
-        verify(orderItemRepository).findTopSellingProducts(any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(analyticsChecker).checkLimit(10);
     }
 
     @Test
     void getRevenueReport_Success() {
-        when(orderRepository.calculateRevenueForPeriod(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(BigDecimal.valueOf(10000));
-        when(orderRepository.countOrdersSince(any(LocalDateTime.class))).thenReturn(25L);
-        when(orderRepository.countDeliveredOrdersBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(20L);
+        when(revenueRollupService.summarize(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new RevenueTotals(BigDecimal.valueOf(10000), 25, 20, 60));
 
         RevenueReport result = analyticsService.getRevenueReport(30);
 
         assertNotNull(result);
         assertEquals(BigDecimal.valueOf(10000), result.getTotalRevenue());
         assertEquals(25L, result.getTotalOrders());
+        assertEquals(BigDecimal.valueOf(500).setScale(2), result.getAverageOrderValue());
         assertEquals("Last 30 days", result.getPeriod());
     }
 
     @Test
-    void getRevenueReport_NullRevenue_HandledCorrectly() {
-        when(orderRepository.calculateRevenueForPeriod(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(null);
-        when(orderRepository.countOrdersSince(any(LocalDateTime.class))).thenReturn(0L);
-        when(orderRepository.countDeliveredOrdersBetween(any(LocalDateTime.class), any(LocalDateTime.class)))
-                .thenReturn(0L);
+    void getRevenueReport_NoOrders_HandledCorrectly() {
+        when(revenueRollupService.summarize(any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(RevenueTotals.ZERO);
 
         RevenueReport result = analyticsService.getRevenueReport(30);
 
@@ -0,0 +1,137 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.model.vo.StockReservationMode;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class HotSkuOrderBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(HotSkuOrderBenchmarkTest.class);
+    private static final int BUYERS = 200;
+    private static final int ORDERS_PER_BUYER = 10;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationMetrics stockReservationMetrics;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "20");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+    }
+
+    @ParameterizedTest
+    @EnumSource(StockReservationMode.class)
+    void placeOrder_SingleHotSku(StockReservationMode mode) throws Exception {
+        ReflectionTestUtils.setField(stockReservationService, "mode", mode);
+
+        User buyer = userRepository.save(User.builder()
+                .username("buyer-" + mode.name().toLowerCase())
+                .email("buyer-" + mode.name().toLowerCase() + "@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build());
+
+        int initialStock = BUYERS * ORDERS_PER_BUYER;
+        Product hotSku = productRepository.save(Product.builder()
+                .name("Hot SKU " + mode)
+                .price(BigDecimal.TEN)
+                .stock(initialStock)
+                .build());
+
+        OrderRequest request = new OrderRequest(List.of(new OrderItemRequest(hotSku.getId(), 1)), "Benchmark street");
+
+        AtomicInteger placed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(BUYERS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < BUYERS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < ORDERS_PER_BUYER; j++) {
+                    try {
+                        orderService.placeOrder(request, buyer.getId(), null);
+                        placed.incrementAndGet();
+                    } catch (RuntimeException ex) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        double ordersPerSecond = placed.get() / (elapsedNanos / 1_000_000_000.0);
+        log.info("[{}] {} buyers, {} placed, {} failed, {} orders/s, {} conflicts, {} retries",
+                mode, BUYERS, placed.get(), failed.get(), String.format("%.1f", ordersPerSecond),
+                stockReservationMetrics.getConflictCount(),
+                stockReservationMetrics.getRetryCount());
+
+        Product reloaded = productRepository.findById(hotSku.getId()).orElseThrow();
+        assertEquals(initialStock, placed.get() + failed.get());
+        assertEquals(initialStock - placed.get(), reloaded.getStock());
+    }
+}
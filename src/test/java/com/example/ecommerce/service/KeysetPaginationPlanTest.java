@@ -0,0 +1,108 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.metrics.RequestMetrics;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+class KeysetPaginationPlanTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+    }
+
+    @BeforeEach
+    void seed() {
+        if (jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class) > 0) {
+            return;
+        }
+        jdbcTemplate.update("INSERT INTO orders (user_id, order_number, total, status, created_at) " +
+                "SELECT (SELECT MIN(id) FROM users), 'PLAN-' || g, 10, 'PENDING', " +
+                "TIMESTAMP '2024-01-01' + g * INTERVAL '1 second' FROM generate_series(1, 50000) g");
+        jdbcTemplate.update("INSERT INTO products (name, price, stock, is_active) " +
+                "SELECT 'Plan Product ' || lpad(g::text, 6, '0'), 9.99, 10, true FROM generate_series(1, 50000) g");
+        jdbcTemplate.execute("ANALYZE orders");
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    @Test
+    void ordersBeforeCursor_SeekBoundsTheIndexScan() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 2, 0);
+        String sql = capture(() -> orderRepository.findByCreatedAtBeforeCursor(
+                createdAt, Long.MAX_VALUE, PageRequest.of(0, PAGE_SIZE)));
+
+        assertSeekUsesIndexCondition(explain(sql, Timestamp.valueOf(createdAt), Long.MAX_VALUE, PAGE_SIZE),
+                "created_at");
+    }
+
+    @Test
+    void productsAfterCursor_SeekBoundsTheIndexScan() {
+        String sql = capture(() -> productRepository.findActiveByNameAfterCursor(
+                "Plan Product 040000", 0L, PageRequest.of(0, PAGE_SIZE)));
+
+        assertSeekUsesIndexCondition(explain(sql, "Plan Product 040000", 0L, PAGE_SIZE), "name");
+    }
+
+    private String capture(Runnable query) {
+        RequestMetrics metrics = RequestMetrics.start(10);
+        try {
+            query.run();
+        } finally {
+            RequestMetrics.clear();
+        }
+        return metrics.getStatements().get(0);
+    }
+
+    private String explain(String sql, Object... args) {
+        List<String> lines = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args);
+        return String.join("\n", lines);
+    }
+
+    private void assertSeekUsesIndexCondition(String plan, String column) {
+        assertTrue(plan.contains("Index Cond") && plan.contains("ROW(" + column),
+                "Expected the seek predicate as an index condition:\n" + plan);
+        assertFalse(plan.contains("Sort"), "Expected the index to provide the order:\n" + plan);
+    }
+}
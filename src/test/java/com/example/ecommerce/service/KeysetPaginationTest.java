@@ -0,0 +1,110 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.CursorPage;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class KeysetPaginationTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void getAllProducts_WalkingCursor_VisitsEveryProductOnceWithoutCount() {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            products.add(Product.builder()
+                    .name("Keyset Product")
+                    .price(BigDecimal.ONE)
+                    .stock(1)
+                    .build());
+        }
+        productRepository.saveAll(products);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Set<Long> seen = new HashSet<>();
+        List<Long> keysetIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            statistics.clear();
+            CursorPage<ProductResponse> page = productService.getAllProducts(cursor, 3);
+            assertEquals(1, statistics.getPrepareStatementCount());
+            for (ProductResponse product : page.getContent()) {
+                assertTrue(seen.add(product.getId()), "Product " + product.getId() + " returned twice");
+                if ("Keyset Product".equals(product.getName())) {
+                    keysetIds.add(product.getId());
+                }
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(7, keysetIds.size());
+        assertEquals(keysetIds.stream().sorted().toList(), keysetIds);
+    }
+
+    @Test
+    void getUserOrders_WalkingCursor_NewestFirst() {
+        User buyer = userRepository.save(User.builder()
+                .username("keyset-buyer")
+                .email("keyset-buyer@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build());
+        Product product = productRepository.save(Product.builder()
+                .name("Keyset Order Product")
+                .price(BigDecimal.ONE)
+                .stock(10)
+                .build());
+        OrderRequest request = new OrderRequest(List.of(new OrderItemRequest(product.getId(), 1)), "Keyset street");
+        List<Long> placed = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            placed.add(orderService.placeOrder(request, buyer.getId(), null).getId());
+        }
+
+        CursorPage<OrderResponse> first = orderService.getUserOrders(buyer.getId(), null, 2);
+        CursorPage<OrderResponse> second = orderService.getUserOrders(buyer.getId(), first.getNextCursor(), 2);
+
+        assertTrue(first.getHasNext());
+        assertFalse(second.getHasNext());
+        assertEquals(List.of(placed.get(2), placed.get(1)), first.getContent().stream().map(OrderResponse::getId).toList());
+        assertEquals(List.of(placed.get(0)), second.getContent().stream().map(OrderResponse::getId).toList());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import com.example.ecommerce.security.CustomUserDetailsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class LazyLoadingGuardTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private AnalyticsService analyticsService;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User buyer;
+    private Long productId;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.findByUsername("lazy-buyer").orElseGet(() -> userRepository.save(User.builder()
+                .username("lazy-buyer")
+                .email("lazy-buyer@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build()));
+
+        Product product = productRepository.save(Product.builder()
+                .name("Lazy Guard Product")
+                .category("Guards")
+                .price(BigDecimal.TEN)
+                .stock(100)
+                .build());
+        productId = product.getId();
+        orderId = orderService.placeOrder(new OrderRequest(List.of(new OrderItemRequest(productId, 2)), "Guard street"),
+                buyer.getId(), null).getId();
+    }
+
+    @Test
+    void lazyLoadingOutsideTransactions_Disabled() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+        assertFalse(sessionFactory.getSessionFactoryOptions().isInitializeLazyStateOutsideTransactionsEnabled());
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+    }
+
+    @Test
+    void orderReadPaths_RenderWithoutOpenSession() {
+        OrderResponse order = orderService.getOrderById(orderId, buyer.getId());
+
+        assertEquals("lazy-buyer", order.getUsername());
+        assertEquals("Lazy Guard Product", order.getItems().get(0).getProductName());
+        assertDoesNotThrow(() -> orderService.getOrderByIdAdmin(orderId));
+        assertDoesNotThrow(() -> orderService.getUserOrders(buyer.getId(), 0, 10));
+        assertDoesNotThrow(() -> orderService.getUserOrders(buyer.getId(), null, 10));
+        assertDoesNotThrow(() -> orderService.getAllOrders(0, 10));
+        assertDoesNotThrow(() -> orderService.getAllOrders(null, 10));
+        assertDoesNotThrow(() -> orderService.updateOrderStatus(orderId, OrderStatus.CONFIRMED));
+    }
+
+    @Test
+    void productReadPaths_RenderWithoutOpenSession() {
+        assertDoesNotThrow(() -> productService.getProductById(productId));
+        assertDoesNotThrow(() -> productService.getAllProducts(0, 10, "id", "asc"));
+        assertDoesNotThrow(() -> productService.getAllProducts(null, 10));
+        assertDoesNotThrow(() -> productService.searchProducts("Lazy", null, null, null, 0, 10, "id", "asc"));
+        assertDoesNotThrow(() -> productService.getAllCategories());
+        assertDoesNotThrow(() -> productService.getLowStockProducts(1000));
+        assertDoesNotThrow(() -> productService.getActiveProductCount());
+    }
+
+    @Test
+    void analyticsAndUserReadPaths_RenderWithoutOpenSession() {
+        assertDoesNotThrow(() -> analyticsService.getTopSellingProducts(10, 30));
+        assertDoesNotThrow(() -> analyticsService.getLowStockProducts(1000));
+        assertDoesNotThrow(() -> analyticsService.getRevenueReport(30));
+        assertDoesNotThrow(() -> userDetailsService.loadUserByUsername("lazy-buyer"));
+        assertDoesNotThrow(() -> userDetailsService.loadUserById(buyer.getId()));
+    }
+}
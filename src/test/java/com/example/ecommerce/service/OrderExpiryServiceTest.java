@@ -0,0 +1,92 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.repository.OrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpiryServiceTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderService orderService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderExpiryService orderExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderExpiryService = new OrderExpiryService(orderRepository, orderService, meterRegistry, true, 30, 2, 0);
+    }
+
+    @Test
+    void expirePendingOrders_WalksChunksWithKeysetCursor() {
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(2);
+        Object[] first = {1L, createdAt};
+        Object[] second = {2L, createdAt};
+        Object[] third = {3L, createdAt.plusMinutes(1)};
+
+        when(orderRepository.findIdsByStatusCreatedBeforeAfterCursor(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), any(LocalDateTime.class), eq(0L), any()))
+                .thenReturn(List.<Object[]>of(first, second));
+        when(orderRepository.findIdsByStatusCreatedBeforeAfterCursor(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), eq(createdAt), eq(2L), any()))
+                .thenReturn(List.<Object[]>of(third));
+        when(orderRepository.findIdsByStatusCreatedBeforeAfterCursor(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), eq(createdAt.plusMinutes(1)), eq(3L), any()))
+                .thenReturn(List.of());
+        when(orderService.expirePendingOrders(List.of(1L, 2L))).thenReturn(2);
+        when(orderService.expirePendingOrders(List.of(3L))).thenReturn(1);
+
+        orderExpiryService.expirePendingOrders();
+
+        assertEquals(3, meterRegistry.counter("orders.expiry.expired").count());
+        assertEquals(2, meterRegistry.timer("orders.expiry.chunk").count());
+        assertEquals(0, orderExpiryService.getLagSeconds());
+    }
+
+    @Test
+    void expirePendingOrders_ChunkFails_StopsAndReportsLag() {
+        LocalDateTime createdAt = LocalDateTime.now().minusHours(2);
+        Object[] first = {1L, createdAt};
+
+        when(orderRepository.findIdsByStatusCreatedBeforeAfterCursor(
+                eq(OrderStatus.PENDING), any(LocalDateTime.class), any(LocalDateTime.class), eq(0L), any()))
+                .thenReturn(List.<Object[]>of(first));
+        when(orderService.expirePendingOrders(List.of(1L))).thenThrow(new IllegalStateException("deadlock"));
+        when(orderRepository.findOldestCreatedAtByStatusBefore(eq(OrderStatus.PENDING), any(LocalDateTime.class)))
+                .thenReturn(createdAt);
+
+        orderExpiryService.expirePendingOrders();
+
+        assertEquals(0, meterRegistry.counter("orders.expiry.expired").count());
+        assertEquals(5400, orderExpiryService.getLagSeconds(), 5);
+    }
+
+    @Test
+    void expirePendingOrders_Disabled_DoesNothing() {
+        orderExpiryService = new OrderExpiryService(orderRepository, orderService, meterRegistry, false, 30, 2, 0);
+
+        orderExpiryService.expirePendingOrders();
+
+        verify(orderService, never()).expirePendingOrders(any());
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.exception.UnprocessableEntityException;
+import com.example.ecommerce.model.OrderIdempotencyKey;
+import com.example.ecommerce.repository.OrderIdempotencyKeyRepository;
+import com.example.ecommerce.util.checker.OrderChecker;
+import com.example.ecommerce.util.generator.RequestHashGenerator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIdempotencyServiceTest {
+
+    @Mock
+    private OrderIntakeService orderIntakeService;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Mock
+    private OrderChecker orderChecker;
+
+    private OrderIdempotencyService orderIdempotencyService;
+    private OrderRequest orderRequest;
+    private OrderResponse orderResponse;
+
+    @BeforeEach
+    void setUp() {
+        orderIdempotencyService = new OrderIdempotencyService(orderIntakeService, orderService,
+                idempotencyKeyRepository, orderChecker, new SimpleMeterRegistry(), 100, 10, 24);
+        orderRequest = new OrderRequest(List.of(new OrderItemRequest(1L, 1)), "Main street");
+        orderResponse = new OrderResponse();
+        orderResponse.setId(7L);
+    }
+
+    @Test
+    void placeOrder_RepeatedKey_ServedFromCache() {
+        when(idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(orderIntakeService.placeOrder(orderRequest, 1L, "key-1")).thenReturn(orderResponse);
+
+        assertSame(orderResponse, orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+        assertSame(orderResponse, orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+
+        verify(orderIntakeService, times(1)).placeOrder(orderRequest, 1L, "key-1");
+        verify(idempotencyKeyRepository, times(1)).findByUserIdAndIdempotencyKey(1L, "key-1");
+    }
+
+    @Test
+    void placeOrder_KeyStored_ReturnsOriginalOrder() {
+        OrderIdempotencyKey stored = OrderIdempotencyKey.builder()
+                .userId(1L)
+                .idempotencyKey("key-1")
+                .orderId(7L)
+                .build();
+        when(idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(stored));
+        when(orderService.getOrderById(7L, 1L)).thenReturn(orderResponse);
+
+        assertSame(orderResponse, orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+
+        verify(orderIntakeService, never()).placeOrder(orderRequest, 1L, "key-1");
+    }
+
+    @Test
+    void placeOrder_KeyStoredForDifferentRequest_Rejected() {
+        OrderRequest original = new OrderRequest(List.of(new OrderItemRequest(2L, 3)), "Other street");
+        OrderIdempotencyKey stored = OrderIdempotencyKey.builder()
+                .userId(1L)
+                .idempotencyKey("key-1")
+                .orderId(7L)
+                .requestHash(RequestHashGenerator.hash(original))
+                .build();
+        when(idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.of(stored));
+        doCallRealMethod().when(orderChecker).checkSameIdempotentRequest(anyString(), anyString(), anyString());
+
+        assertThrows(UnprocessableEntityException.class,
+                () -> orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+
+        verify(orderService, never()).getOrderById(7L, 1L);
+        verify(orderIntakeService, never()).placeOrder(orderRequest, 1L, "key-1");
+    }
+
+    @Test
+    void placeOrder_CachedKeyReusedWithDifferentRequest_Rejected() {
+        OrderRequest other = new OrderRequest(List.of(new OrderItemRequest(2L, 3)), "Other street");
+        when(idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(orderIntakeService.placeOrder(orderRequest, 1L, "key-1")).thenReturn(orderResponse);
+        doCallRealMethod().when(orderChecker).checkSameIdempotentRequest(anyString(), anyString(), anyString());
+
+        orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1");
+
+        assertThrows(UnprocessableEntityException.class,
+                () -> orderIdempotencyService.placeOrder(other, 1L, "key-1"));
+    }
+
+    @Test
+    void placeOrder_ConcurrentInsertWon_ReturnsWinningOrder() {
+        OrderIdempotencyKey stored = OrderIdempotencyKey.builder()
+                .userId(1L)
+                .idempotencyKey("key-1")
+                .orderId(7L)
+                .build();
+        when(idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L, "key-1"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(stored));
+        when(orderIntakeService.placeOrder(orderRequest, 1L, "key-1"))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(orderService.getOrderById(7L, 1L)).thenReturn(orderResponse);
+
+        assertSame(orderResponse, orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+    }
+
+    @Test
+    void placeOrder_ConcurrentDuplicates_ExecutedOnce() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(idempotencyKeyRepository.findByUserIdAndIdempotencyKey(1L, "key-1")).thenReturn(Optional.empty());
+        when(orderIntakeService.placeOrder(orderRequest, 1L, "key-1")).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return orderResponse;
+        });
+
+        CompletableFuture<OrderResponse> first = CompletableFuture.supplyAsync(
+                () -> orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+        entered.await(5, TimeUnit.SECONDS);
+        CompletableFuture<OrderResponse> second = CompletableFuture.supplyAsync(
+                () -> orderIdempotencyService.placeOrder(orderRequest, 1L, "key-1"));
+        release.countDown();
+
+        assertEquals(orderResponse, first.get(5, TimeUnit.SECONDS));
+        assertEquals(orderResponse, second.get(5, TimeUnit.SECONDS));
+        verify(orderIntakeService, times(1)).placeOrder(orderRequest, 1L, "key-1");
+    }
+
+    @Test
+    void placeOrder_NoKey_DelegatesToIntake() {
+        when(orderIntakeService.placeOrder(orderRequest, 1L, null)).thenReturn(orderResponse);
+
+        assertSame(orderResponse, orderIdempotencyService.placeOrder(orderRequest, 1L, null));
+
+        verify(idempotencyKeyRepository, never()).findByUserIdAndIdempotencyKey(1L, null);
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.BatchOrderResult;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.exception.InsufficientStockException;
+import com.example.ecommerce.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OrderIntakeServiceTest {
+
+    @Mock
+    private OrderService orderService;
+
+    private OrderIntakeService orderIntakeService;
+    private OrderRequest orderRequest;
+
+    @BeforeEach
+    void setUp() {
+        orderRequest = new OrderRequest(List.of(new OrderItemRequest(1L, 1)), "Intake street");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (orderIntakeService != null) {
+            orderIntakeService.stop();
+        }
+    }
+
+    @Test
+    void placeOrder_GroupCommitDisabled_DelegatesDirectly() {
+        orderIntakeService = new OrderIntakeService(orderService, false, 10, 50, 5, 1, 5000);
+        OrderResponse response = OrderResponse.builder().id(1L).build();
+        when(orderService.placeOrder(orderRequest, 1L, null)).thenReturn(response);
+
+        assertEquals(response, orderIntakeService.placeOrder(orderRequest, 1L, null));
+    }
+
+    @Test
+    void submit_MicroBatch_CompletesEachCallerSeparately() throws Exception {
+        orderIntakeService = new OrderIntakeService(orderService, true, 10, 50, 200, 1, 5000);
+        when(orderService.placeGroupedOrders(anyList(), anyList(), anyList())).thenAnswer(invocation -> {
+            List<OrderRequest> requests = invocation.getArgument(0);
+            List<BatchOrderResult> results = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                results.add(i == 1 ?
+                        BatchOrderResult.builder().index(i).success(false)
+                                .error(new InsufficientStockException("Out of stock")).build() :
+                        BatchOrderResult.builder().index(i).success(true)
+                                .order(OrderResponse.builder().id((long) i).build()).build());
+            }
+            return results;
+        });
+        orderIntakeService.start();
+
+        CompletableFuture<OrderResponse> first = orderIntakeService.submit(orderRequest, 1L, null);
+        CompletableFuture<OrderResponse> second = orderIntakeService.submit(orderRequest, 2L, null);
+        CompletableFuture<OrderResponse> third = orderIntakeService.submit(orderRequest, 3L, null);
+
+        assertEquals(0L, first.get(5, TimeUnit.SECONDS).getId());
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(InsufficientStockException.class, failure.getCause());
+        assertEquals(2L, third.get(5, TimeUnit.SECONDS).getId());
+        verify(orderService).placeGroupedOrders(anyList(), eq(List.of(1L, 2L, 3L)), anyList());
+    }
+
+    @Test
+    void submit_QueueFull_RejectsWithServiceUnavailable() throws Exception {
+        orderIntakeService = new OrderIntakeService(orderService, true, 1, 1, 5, 1, 5000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writerBusy = new CountDownLatch(1);
+        when(orderService.placeGroupedOrders(anyList(), anyList(), anyList())).thenAnswer(invocation -> {
+            writerBusy.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(BatchOrderResult.builder().index(0).success(true)
+                    .order(OrderResponse.builder().build()).build());
+        });
+        orderIntakeService.start();
+
+        orderIntakeService.submit(orderRequest, 1L, null);
+        writerBusy.await(5, TimeUnit.SECONDS);
+        orderIntakeService.submit(orderRequest, 1L, null);
+
+        assertThrows(ServiceUnavailableException.class, () -> orderIntakeService.submit(orderRequest, 1L, null));
+        release.countDown();
+    }
+
+    @Test
+    void placeOrder_FlusherStalled_TimesOutWithServiceUnavailable() {
+        orderIntakeService = new OrderIntakeService(orderService, true, 10, 1, 5, 1, 50);
+        CountDownLatch release = new CountDownLatch(1);
+        when(orderService.placeGroupedOrders(anyList(), anyList(), anyList())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(BatchOrderResult.builder().index(0).success(true)
+                    .order(OrderResponse.builder().build()).build());
+        });
+        orderIntakeService.start();
+
+        assertThrows(ServiceUnavailableException.class, () -> orderIntakeService.placeOrder(orderRequest, 1L, null));
+        release.countDown();
+    }
+}
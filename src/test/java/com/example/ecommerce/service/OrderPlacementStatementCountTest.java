@@ -0,0 +1,75 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderPlacementStatementCountTest {
+
+    private static final int BASKET_SIZE = 30;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void placeOrder_LargeBasket_InsertsAreBatched() {
+        User buyer = userRepository.save(User.builder()
+                .username("bulk-buyer")
+                .email("bulk-buyer@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build());
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < BASKET_SIZE; i++) {
+            products.add(Product.builder()
+                    .name("Basket Product " + i)
+                    .price(BigDecimal.ONE)
+                    .stock(100)
+                    .build());
+        }
+        products = productRepository.saveAll(products);
+
+        List<OrderItemRequest> items = products.stream()
+                .map(product -> new OrderItemRequest(product.getId(), 1))
+                .toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        orderService.placeOrder(new OrderRequest(items, "Batch street"), buyer.getId(), null);
+
+        assertEquals(BASKET_SIZE + 2, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "Expected batched inserts, but " + statistics.getPrepareStatementCount() + " statements were prepared");
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.CursorPage;
+import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class OrderRenderingStatementCountTest {
+
+    private static final int ORDERS = 10;
+    private static final int ITEMS_PER_ORDER = 5;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User buyer;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        buyer = userRepository.findByUsername("render-buyer").orElseGet(() -> userRepository.save(User.builder()
+                .username("render-buyer")
+                .email("render-buyer@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build()));
+
+        if (orderService.getUserOrders(buyer.getId(), 0, 1).getTotalElements() == 0) {
+            List<Product> products = new ArrayList<>();
+            for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+                products.add(Product.builder()
+                        .name("Rendered Product " + i)
+                        .price(BigDecimal.ONE)
+                        .stock(100)
+                        .build());
+            }
+            List<OrderItemRequest> items = productRepository.saveAll(products).stream()
+                    .map(product -> new OrderItemRequest(product.getId(), 1))
+                    .toList();
+            for (int i = 0; i < ORDERS; i++) {
+                orderService.placeOrder(new OrderRequest(items, "Render street"), buyer.getId(), null);
+            }
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getUserOrders_Page_ConstantStatements() {
+        Page<OrderResponse> page = orderService.getUserOrders(buyer.getId(), 0, ORDERS);
+
+        assertEquals(ORDERS, page.getContent().size());
+        assertEquals(ITEMS_PER_ORDER, page.getContent().get(0).getItems().size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getUserOrders_Cursor_ConstantStatements() {
+        CursorPage<OrderResponse> page = orderService.getUserOrders(buyer.getId(), null, ORDERS);
+
+        assertEquals(ORDERS, page.getContent().size());
+        assertTrue(page.getContent().get(0).getItems().get(0).getProductName().startsWith("Rendered Product"));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getOrderById_SingleStatement() {
+        Long orderId = orderService.getUserOrders(buyer.getId(), null, 1).getContent().get(0).getId();
+        statistics.clear();
+
+        OrderResponse order = orderService.getOrderById(orderId, buyer.getId());
+
+        assertEquals(ITEMS_PER_ORDER, order.getItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
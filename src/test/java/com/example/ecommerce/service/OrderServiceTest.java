@@ -2,30 +2,60 @@ package com.example.ecommerce.service;
 
 import com.example.ecommerce.dto.request.OrderItemRequest;
 import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.BatchOrderResponse;
+import com.example.ecommerce.dto.response.BatchOrderResult;
+import com.example.ecommerce.dto.response.BulkCancelResponse;
 import com.example.ecommerce.dto.response.OrderResponse;
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.exception.ResourceAlreadyExistsException;
+import com.example.ecommerce.exception.ResourceNotFoundException;
 import com.example.ecommerce.model.Order;
-import com.example.ecommerce.model.OrderItem;
+import com.example.ecommerce.model.OrderIdempotencyKey;
 import com.example.ecommerce.model.Product;
 import com.example.ecommerce.model.User;
 import com.example.ecommerce.model.vo.OrderStatus;
 import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.repository.OrderIdempotencyKeyRepository;
+import com.example.ecommerce.repository.OrderItemRepository;
 import com.example.ecommerce.repository.OrderRepository;
 import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.UserRepository;
+import com.example.ecommerce.service.analytics.RevenueRollupService;
+import com.example.ecommerce.service.analytics.TrendingProductService;
+import com.example.ecommerce.service.outbox.OutboxService;
 import com.example.ecommerce.util.checker.OrderChecker;
+import com.example.ecommerce.util.generator.OrderNumberGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,12 +65,39 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    @Mock
+    private OrderIdempotencyKeyRepository idempotencyKeyRepository;
+
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private OrderChecker orderChecker;
 
+    @Mock
+    private StockReservationService stockReservationService;
+
+    @Mock
+    private StockShardService stockShardService;
+
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private RevenueRollupService revenueRollupService;
+
+    @Mock
+    private TrendingProductService trendingProductService;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -84,35 +141,189 @@ class OrderServiceTest {
     @Test
     void placeOrder_Success() {
         when(orderChecker.checkUserExists(1L)).thenReturn(testUser);
-        when(productRepository.findAllByIdWithLock(anyList())).thenReturn(Arrays.asList(testProduct));
+        when(stockReservationService.reserve(Map.of(1L, 2))).thenReturn(Arrays.asList(testProduct));
         when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
 
-        OrderResponse result = orderService.placeOrder(orderRequest, 1L);
+        OrderResponse result = orderService.placeOrder(orderRequest, 1L, null);
 
         assertNotNull(result);
         verify(orderChecker).checkUserExists(1L);
-        verify(orderChecker).checkAllProductsExist(anyList(), anyList());
-        verify(orderChecker).checkProductAvailability(testProduct);
-        verify(orderChecker).checkStockAvailability(testProduct, 2);
+        verify(stockReservationService).reserve(Map.of(1L, 2));
         verify(orderRepository).save(any(Order.class));
     }
 
     @Test
-    void cancelOrder_Success() {
-        OrderItem orderItem = OrderItem.builder()
-                .product(testProduct)
-                .quantity(2)
+    void placeOrder_WithIdempotencyKey_StoresKeyForOrder() {
+        when(orderChecker.checkUserExists(1L)).thenReturn(testUser);
+        when(stockReservationService.reserve(Map.of(1L, 2))).thenReturn(Arrays.asList(testProduct));
+        when(orderRepository.save(any(Order.class))).thenReturn(testOrder);
+
+        orderService.placeOrder(orderRequest, 1L, "retry-key");
+
+        ArgumentCaptor<OrderIdempotencyKey> saved = ArgumentCaptor.forClass(OrderIdempotencyKey.class);
+        verify(idempotencyKeyRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getUserId());
+        assertEquals("retry-key", saved.getValue().getIdempotencyKey());
+        assertEquals(1L, saved.getValue().getOrderId());
+        verify(userRepository).findAllByIdForUpdate(List.of(1L));
+    }
+
+    @Test
+    void placeGroupedOrders_KeyAlreadyStored_OnlyThatOrderRejected() {
+        OrderRequest first = new OrderRequest(Arrays.asList(new OrderItemRequest(1L, 1)), "First street");
+        OrderRequest second = new OrderRequest(Arrays.asList(new OrderItemRequest(1L, 1)), "Second street");
+        OrderIdempotencyKey stored = OrderIdempotencyKey.builder()
+                .userId(1L)
+                .idempotencyKey("taken-key")
+                .orderId(99L)
                 .build();
-        testOrder.setItems(Arrays.asList(orderItem));
 
-        when(orderChecker.checkOrderExistsWithItems(1L)).thenReturn(testOrder);
+        when(orderChecker.checkUserExists(1L)).thenReturn(testUser);
+        when(idempotencyKeyRepository.findByUserIdInAndIdempotencyKeyIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(stored));
+        when(productRepository.findAllByIdForUpdate(anyCollection())).thenReturn(Arrays.asList(testProduct));
+
+        List<BatchOrderResult> results = orderService.placeGroupedOrders(Arrays.asList(first, second),
+                List.of(1L, 1L), Arrays.asList("taken-key", "fresh-key"));
+
+        assertFalse(results.get(0).getSuccess());
+        assertInstanceOf(ResourceAlreadyExistsException.class, results.get(0).getError());
+        assertTrue(results.get(1).getSuccess());
+        assertEquals(9, testProduct.getStock());
+        verify(userRepository).findAllByIdForUpdate(Set.of(1L));
+
+        ArgumentCaptor<List<OrderIdempotencyKey>> saved = ArgumentCaptor.forClass(List.class);
+        verify(idempotencyKeyRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals("fresh-key", saved.getValue().get(0).getIdempotencyKey());
+    }
+
+    @Test
+    void placeGroupedOrders_UserMissing_OnlyThatOrderRejected() {
+        OrderRequest first = new OrderRequest(Arrays.asList(new OrderItemRequest(1L, 1)), "First street");
+        OrderRequest second = new OrderRequest(Arrays.asList(new OrderItemRequest(1L, 1)), "Second street");
+
+        when(orderChecker.checkUserExists(1L)).thenReturn(testUser);
+        when(orderChecker.checkUserExists(2L)).thenThrow(new ResourceNotFoundException("User", "id", 2L));
+        when(productRepository.findAllByIdForUpdate(anyCollection())).thenReturn(Arrays.asList(testProduct));
+
+        List<BatchOrderResult> results = orderService.placeGroupedOrders(Arrays.asList(first, second),
+                List.of(1L, 2L), Arrays.asList(null, "missing-user-key"));
+
+        assertTrue(results.get(0).getSuccess());
+        assertFalse(results.get(1).getSuccess());
+        assertInstanceOf(ResourceNotFoundException.class, results.get(1).getError());
+        assertEquals(9, testProduct.getStock());
+        verify(userRepository, never()).findAllByIdForUpdate(anyCollection());
+    }
+
+    @Test
+    void placeOrder_DuplicateLines_QuantitiesMerged() {
+        OrderItemRequest first = new OrderItemRequest(1L, 2);
+        OrderItemRequest second = new OrderItemRequest(1L, 3);
+        orderRequest.setItems(Arrays.asList(first, second));
+
+        when(orderChecker.checkUserExists(1L)).thenReturn(testUser);
+        when(stockReservationService.reserve(Map.of(1L, 5))).thenReturn(Arrays.asList(testProduct));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        OrderResponse result = orderService.placeOrder(orderRequest, 1L, null);
+
+        assertEquals(BigDecimal.valueOf(500), result.getTotal());
+        assertEquals(2, result.getItems().size());
+    }
+
+    @Test
+    void cancelOrder_Success() {
+        when(orderChecker.checkOrderExists(1L)).thenReturn(testOrder);
+        when(orderRepository.findAllByIdAndStatusForUpdate(eq(List.of(1L)), anyCollection()))
+                .thenReturn(List.of(testOrder));
+        when(orderItemRepository.sumQuantitiesByProduct(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+        when(orderRepository.updateStatus(eq(List.of(1L)), anyCollection(), eq(OrderStatus.CANCELLED),
+                any(LocalDateTime.class)))
+                .thenReturn(1);
 
         orderService.cancelOrder(1L, 1L);
 
         verify(orderChecker).checkUserOwnsOrder(testOrder, 1L);
         verify(orderChecker).checkOrderCanBeCanceled(testOrder);
-        verify(productRepository).save(testProduct);
-        verify(orderRepository).save(testOrder);
-        assertEquals(OrderStatus.CANCELLED, testOrder.getStatus());
+        verify(stockReservationService).release(Map.of(1L, 2));
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void cancelOrder_ConcurrentlyCancelled_Throws() {
+        when(orderChecker.checkOrderExists(1L)).thenReturn(testOrder);
+        when(orderRepository.findAllByIdAndStatusForUpdate(eq(List.of(1L)), anyCollection()))
+                .thenReturn(List.of());
+
+        assertThrows(BadRequestException.class, () -> orderService.cancelOrder(1L, 1L));
+
+        verify(stockReservationService, never()).release(anyMap());
+    }
+
+    @Test
+    void cancelOrders_SkipsOrdersNoLongerCancellable() {
+        when(orderRepository.findAllByIdAndStatusForUpdate(eq(List.of(1L, 2L)), anyCollection()))
+                .thenReturn(List.of(testOrder));
+        when(orderItemRepository.sumQuantitiesByProduct(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+        when(orderRepository.updateStatus(eq(List.of(1L)), anyCollection(), eq(OrderStatus.CANCELLED),
+                any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        BulkCancelResponse result = orderService.cancelOrders(Arrays.asList(2L, 1L, 1L));
+
+        assertEquals(2, result.getRequestedOrders());
+        assertEquals(1, result.getCancelledOrders());
+        assertEquals(1, result.getSkippedOrders());
+        verify(stockReservationService).release(Map.of(1L, 2));
+    }
+
+    @Test
+    void cancelOrders_StatusChangedBeforeUpdate_RollsBack() {
+        when(orderRepository.findAllByIdAndStatusForUpdate(eq(List.of(1L)), anyCollection()))
+                .thenReturn(List.of(testOrder));
+        when(orderItemRepository.sumQuantitiesByProduct(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2L}));
+        when(orderRepository.updateStatus(eq(List.of(1L)), anyCollection(), eq(OrderStatus.CANCELLED),
+                any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> orderService.cancelOrders(List.of(1L)));
+
+        verify(outboxService, never()).recordOrdersCancelled(anyCollection(), anyMap());
+    }
+
+    @Test
+    void updateOrderStatus_LocksOrderBeforeLoading() {
+        when(orderChecker.checkOrderExistsWithItems(1L)).thenReturn(testOrder);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        orderService.updateOrderStatus(1L, OrderStatus.SHIPPED);
+
+        InOrder inOrder = inOrder(orderRepository, orderChecker);
+        inOrder.verify(orderRepository).findByIdForUpdate(1L);
+        inOrder.verify(orderChecker).checkOrderExistsWithItems(1L);
+    }
+
+    @Test
+    void placeOrders_InsufficientStock_OnlyFailingOrderRejected() {
+        OrderRequest first = new OrderRequest(Arrays.asList(new OrderItemRequest(1L, 6)), "First street");
+        OrderRequest second = new OrderRequest(Arrays.asList(new OrderItemRequest(1L, 6)), "Second street");
+
+        when(orderChecker.checkUserExists(1L)).thenReturn(testUser);
+        when(productRepository.findAllByIdForUpdate(anyCollection())).thenReturn(Arrays.asList(testProduct));
+        doCallRealMethod().when(orderChecker).checkStockAvailability(any(Product.class), anyInt());
+
+        BatchOrderResponse result = orderService.placeOrders(Arrays.asList(first, second), 1L);
+
+        assertEquals(1, result.getPlacedOrders());
+        assertEquals(1, result.getFailedOrders());
+        assertTrue(result.getResults().get(0).getSuccess());
+        assertFalse(result.getResults().get(1).getSuccess());
+        assertEquals(4, testProduct.getStock());
+        verify(orderRepository).saveAll(anyCollection());
     }
-}
\ No newline at end of file
+}
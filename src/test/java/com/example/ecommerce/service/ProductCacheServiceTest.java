@@ -0,0 +1,134 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.invalidation.CacheInvalidationEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCacheServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductCacheService productCacheService;
+    private Product product;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        productCacheService = new ProductCacheService(productRepository, new SimpleMeterRegistry(),
+                true, 100, 10, 100, 60, 60000, 5000);
+        product = Product.builder()
+                .id(1L)
+                .version(3L)
+                .name("Cached Product")
+                .price(BigDecimal.TEN)
+                .stock(5)
+                .isActive(true)
+                .build();
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void getProduct_SecondRead_ServedFromCache() {
+        productCacheService.getProduct(1L, this::load);
+        ProductResponse result = productCacheService.getProduct(1L, this::load);
+
+        assertEquals("Cached Product", result.getName());
+        assertEquals(5, result.getStock());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void getProduct_Invalidated_Reloads() {
+        productCacheService.getProduct(1L, this::load);
+        productCacheService.invalidate(1L, 4L);
+        product.setVersion(4L);
+        product.setName("Renamed Product");
+
+        ProductResponse result = productCacheService.getProduct(1L, this::load);
+
+        assertEquals("Renamed Product", result.getName());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getProduct_StaleVersionLoadedAfterInvalidation_NotCached() {
+        productCacheService.invalidate(1L, 4L);
+
+        productCacheService.getProduct(1L, this::load);
+        productCacheService.getProduct(1L, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void getPage_StockExpired_OverlaysFreshStock() {
+        productCacheService = new ProductCacheService(productRepository, new SimpleMeterRegistry(),
+                true, 100, 10, 100, 60, 0, 5000);
+        Pageable pageable = PageRequest.of(0, 10);
+        when(productRepository.findAvailableStockByIds(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{1L, 2}));
+
+        productCacheService.getPage("all", pageable, () -> page(pageable));
+        Page<ProductResponse> result = productCacheService.getPage("all", pageable, () -> page(pageable));
+
+        assertEquals(1, loads.get());
+        assertEquals(2, result.getContent().get(0).getStock());
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void getPage_ListingsInvalidated_Reloads() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        productCacheService.getPage("all", pageable, () -> page(pageable));
+        productCacheService.invalidateListings();
+        productCacheService.getPage("all", pageable, () -> page(pageable));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onInvalidation_All_ReloadsProductsAndListings() {
+        Pageable pageable = PageRequest.of(0, 10);
+        productCacheService.getProduct(1L, this::load);
+        productCacheService.getPage("all", pageable, () -> page(pageable));
+
+        productCacheService.onInvalidation(new CacheInvalidationEvent(CacheInvalidationType.ALL, null, null));
+        productCacheService.getProduct(1L, this::load);
+        productCacheService.getPage("all", pageable, () -> page(pageable));
+
+        assertEquals(4, loads.get());
+    }
+
+    private Product load() {
+        loads.incrementAndGet();
+        return product;
+    }
+
+    private Page<Product> page(Pageable pageable) {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of(product), pageable, 1);
+    }
+}
@@ -2,8 +2,15 @@ package com.example.ecommerce.service;
 
 import com.example.ecommerce.dto.request.ProductRequest;
 import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.exception.ResourceAlreadyExistsException;
 import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
 import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.invalidation.CacheInvalidationBus;
+import com.example.ecommerce.service.outbox.OutboxService;
+import com.example.ecommerce.service.search.ProductFacetService;
+import com.example.ecommerce.service.search.ProductSearch;
+import com.example.ecommerce.util.builder.ResponseBuilder;
 import com.example.ecommerce.util.checker.ProductChecker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,9 +20,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -28,6 +39,24 @@ class ProductServiceTest {
     @Mock
     private ProductChecker productChecker;
 
+    @Mock
+    private StockShardService stockShardService;
+
+    @Mock
+    private OutboxService outboxService;
+
+    @Mock
+    private ProductCacheService productCacheService;
+
+    @Mock
+    private CacheInvalidationBus cacheInvalidationBus;
+
+    @Mock
+    private ProductSearch productSearch;
+
+    @Mock
+    private ProductFacetService productFacetService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -57,6 +86,8 @@ class ProductServiceTest {
     @Test
     void getProductById_Success() {
         when(productChecker.checkProductExists(1L)).thenReturn(testProduct);
+        when(productCacheService.getProduct(eq(1L), any())).thenAnswer(invocation ->
+                ResponseBuilder.createProductResponse(invocation.<Supplier<Product>>getArgument(1).get()));
 
         ProductResponse result = productService.getProductById(1L);
 
@@ -84,6 +115,41 @@ class ProductServiceTest {
         assertEquals(BigDecimal.valueOf(150), result.getPrice());
     }
 
+    @Test
+    void createProduct_DuplicateSku_ThrowsConflict() {
+        productRequest.setSku("SKU-1");
+        doThrow(new ResourceAlreadyExistsException("Product", "sku", "SKU-1"))
+                .when(productChecker).checkSkuAvailable("SKU-1");
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> productService.createProduct(productRequest));
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void updateProduct_SkuTakenByOtherProduct_ThrowsConflict() {
+        productRequest.setSku("SKU-1");
+        when(productChecker.checkProductExists(1L)).thenReturn(testProduct);
+        doThrow(new ResourceAlreadyExistsException("Product", "sku", "SKU-1"))
+                .when(productChecker).checkSkuAvailable("SKU-1", 1L);
+
+        assertThrows(ResourceAlreadyExistsException.class, () -> productService.updateProduct(1L, productRequest));
+        verify(productRepository, never()).saveAndFlush(any(Product.class));
+    }
+
+    @Test
+    void updateProduct_RecordsOutboxEvent() {
+        when(productChecker.checkProductExists(1L)).thenReturn(testProduct);
+        when(productRepository.saveAndFlush(testProduct)).thenReturn(testProduct);
+
+        ProductResponse result = productService.updateProduct(1L, productRequest);
+
+        assertEquals("New Product", result.getName());
+        assertEquals(20, testProduct.getStock());
+        verify(outboxService).recordProductUpdated(testProduct);
+        verify(cacheInvalidationBus).publishAfterCommit(CacheInvalidationType.PRODUCT, 1L, null);
+        verify(cacheInvalidationBus).publishAfterCommit(CacheInvalidationType.CATEGORY, null, null);
+    }
+
     @Test
     void deleteProduct_Success() {
         when(productChecker.checkProductExists(1L)).thenReturn(testProduct);
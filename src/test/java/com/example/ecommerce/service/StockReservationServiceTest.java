@@ -0,0 +1,179 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.exception.InsufficientStockException;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.StockReservationMode;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.util.checker.OrderChecker;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockReservationServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OrderChecker orderChecker;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StockReservationMetrics stockReservationMetrics;
+
+    @Mock
+    private StockShardService stockShardService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @InjectMocks
+    private StockReservationService stockReservationService;
+
+    private Product firstProduct;
+    private Product secondProduct;
+    private Map<Long, Integer> quantities;
+
+    @BeforeEach
+    void setUp() {
+        firstProduct = Product.builder()
+                .id(1L)
+                .name("First Product")
+                .price(BigDecimal.valueOf(100))
+                .stock(10)
+                .isActive(true)
+                .build();
+
+        secondProduct = Product.builder()
+                .id(2L)
+                .name("Second Product")
+                .price(BigDecimal.valueOf(50))
+                .stock(5)
+                .isActive(true)
+                .build();
+
+        quantities = new LinkedHashMap<>();
+        quantities.put(2L, 1);
+        quantities.put(1L, 3);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void reserve_AtomicMode_SingleBatchOrderedById() {
+        ReflectionTestUtils.setField(stockReservationService, "mode", StockReservationMode.ATOMIC);
+        when(productRepository.findAllById(anyList())).thenReturn(Arrays.asList(secondProduct, firstProduct));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 1});
+        when(productRepository.findStockAndVersionByIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new Object[]{1L, 7, 1L}, new Object[]{2L, 4, 1L}));
+
+        List<Product> result = stockReservationService.reserve(quantities);
+
+        assertEquals(2, result.size());
+        ArgumentCaptor<List<Object[]>> batchArgs = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batchArgs.capture());
+        assertArrayEquals(new Object[]{3, 1L, 3}, batchArgs.getValue().get(0));
+        assertArrayEquals(new Object[]{1, 2L, 1}, batchArgs.getValue().get(1));
+        verify(orderChecker).checkStockAvailability(firstProduct, 3);
+        verify(orderChecker).checkStockAvailability(secondProduct, 1);
+        verify(productRepository, never()).saveAll(anyList());
+        verify(entityManager).detach(firstProduct);
+        verify(entityManager).detach(secondProduct);
+        assertEquals(7, firstProduct.getStock());
+        assertEquals(4, secondProduct.getStock());
+        assertEquals(1L, secondProduct.getVersion());
+    }
+
+    @Test
+    void reserve_AtomicMode_ConditionalUpdateMissed_ThrowsAndRecordsConflict() {
+        ReflectionTestUtils.setField(stockReservationService, "mode", StockReservationMode.ATOMIC);
+        when(productRepository.findAllById(anyList())).thenReturn(Arrays.asList(firstProduct, secondProduct));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1, 0});
+
+        assertThrows(InsufficientStockException.class, () -> stockReservationService.reserve(quantities));
+
+        verify(stockReservationMetrics).recordConflict(2L);
+    }
+
+    @Test
+    void reserve_OptimisticMode_DecreasesStockOnEntities() {
+        ReflectionTestUtils.setField(stockReservationService, "mode", StockReservationMode.OPTIMISTIC);
+        when(productRepository.findAllByIdWithLock(anyList())).thenReturn(Arrays.asList(firstProduct, secondProduct));
+
+        stockReservationService.reserve(quantities);
+
+        assertEquals(7, firstProduct.getStock());
+        assertEquals(4, secondProduct.getStock());
+        verify(orderChecker).checkAllProductsExist(anyList(), eq(Arrays.asList(firstProduct, secondProduct)));
+        verify(productRepository).saveAll(Arrays.asList(firstProduct, secondProduct));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void reserve_ShardedProduct_RoutedToShards() {
+        ReflectionTestUtils.setField(stockReservationService, "mode", StockReservationMode.ATOMIC);
+        secondProduct.setStockShards(4);
+        when(productRepository.findAllById(anyList())).thenReturn(Arrays.asList(firstProduct, secondProduct));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[]{1});
+        when(stockShardService.reserve(secondProduct, 1)).thenReturn(true);
+
+        stockReservationService.reserve(quantities);
+
+        verify(stockShardService).reserve(secondProduct, 1);
+        verify(stockShardService, never()).reserve(firstProduct, 3);
+    }
+
+    @Test
+    void reserve_ShardedProduct_AllShardsDry_Throws() {
+        ReflectionTestUtils.setField(stockReservationService, "mode", StockReservationMode.OPTIMISTIC);
+        secondProduct.setStockShards(4);
+        when(productRepository.findAllByIdWithLock(anyList())).thenReturn(Arrays.asList(firstProduct, secondProduct));
+        when(stockShardService.reserve(secondProduct, 1)).thenReturn(false);
+
+        assertThrows(InsufficientStockException.class, () -> stockReservationService.reserve(quantities));
+
+        verify(stockReservationMetrics).recordConflict(2L);
+    }
+
+    @Test
+    void release_RestoresPlainStockInOneStatementAndShardsSeparately() {
+        secondProduct.setStockShards(4);
+        when(productRepository.findAllByIdForUpdate(quantities.keySet()))
+                .thenReturn(Arrays.asList(firstProduct, secondProduct));
+
+        stockReservationService.release(quantities);
+
+        verify(jdbcTemplate).update(
+                "UPDATE products SET stock = stock + CASE id WHEN ? THEN ? END, version = version + 1 WHERE id IN (?)",
+                1L, 3, 1L);
+        verify(stockShardService).release(secondProduct, 1);
+        verify(productRepository, never()).saveAll(anyList());
+        verify(entityManager).detach(firstProduct);
+        verify(entityManager, never()).detach(secondProduct);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.ecommerce.service;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.ProductStockShard;
+import com.example.ecommerce.repository.ProductStockShardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StockShardServiceTest {
+
+    @Mock
+    private ProductStockShardRepository shardRepository;
+
+    @InjectMocks
+    private StockShardService stockShardService;
+
+    private Product shardedProduct;
+    private List<ProductStockShard> shards;
+
+    @BeforeEach
+    void setUp() {
+        shardedProduct = Product.builder()
+                .id(1L)
+                .name("Hot Product")
+                .price(BigDecimal.valueOf(100))
+                .stock(0)
+                .stockShards(3)
+                .availableStock(7)
+                .isActive(true)
+                .build();
+
+        shards = Arrays.asList(
+                ProductStockShard.builder().product(shardedProduct).shardNo(0).stock(0).build(),
+                ProductStockShard.builder().product(shardedProduct).shardNo(1).stock(2).build(),
+                ProductStockShard.builder().product(shardedProduct).shardNo(2).stock(5).build()
+        );
+    }
+
+    @Test
+    void reserve_ShardHasStock_NoRebalance() {
+        when(shardRepository.decreaseStock(eq(1L), anyInt(), eq(2))).thenReturn(1);
+
+        assertTrue(stockShardService.reserve(shardedProduct, 2));
+    }
+
+    @Test
+    void reserve_ShardDry_RebalancesRemainingStock() {
+        when(shardRepository.decreaseStock(eq(1L), anyInt(), eq(4))).thenReturn(0);
+        when(shardRepository.findAllByProductIdWithLock(1L)).thenReturn(shards);
+
+        assertTrue(stockShardService.reserve(shardedProduct, 4));
+
+        assertEquals(1, shards.get(0).getStock());
+        assertEquals(1, shards.get(1).getStock());
+        assertEquals(1, shards.get(2).getStock());
+    }
+
+    @Test
+    void reserve_TotalInsufficient_ReturnsFalse() {
+        when(shardRepository.decreaseStock(eq(1L), anyInt(), eq(8))).thenReturn(0);
+        when(shardRepository.findAllByProductIdWithLock(1L)).thenReturn(shards);
+
+        assertFalse(stockShardService.reserve(shardedProduct, 8));
+
+        assertEquals(5, shards.get(2).getStock());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void configure_UnshardedProduct_SplitsStockAcrossShards() {
+        Product product = Product.builder()
+                .id(2L)
+                .name("Plain Product")
+                .price(BigDecimal.valueOf(10))
+                .stock(10)
+                .isActive(true)
+                .build();
+        when(shardRepository.findAllByProductIdWithLock(2L)).thenReturn(new ArrayList<>());
+
+        stockShardService.configure(product, 4);
+
+        ArgumentCaptor<List<ProductStockShard>> saved = ArgumentCaptor.forClass(List.class);
+        verify(shardRepository).saveAll(saved.capture());
+        assertEquals(Arrays.asList(3, 3, 2, 2), saved.getValue().stream().map(ProductStockShard::getStock).toList());
+        assertEquals(4, product.getStockShards());
+        assertEquals(10, product.getStock());
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ecommerce.service.analytics;
+
+import com.example.ecommerce.dto.response.DashboardResponse;
+import com.example.ecommerce.dto.response.LowStockResponse;
+import com.example.ecommerce.dto.response.RevenueReport;
+import com.example.ecommerce.dto.response.TopSellingProductsResponse;
+import com.example.ecommerce.exception.ServiceUnavailableException;
+import com.example.ecommerce.service.AnalyticsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    private static final int ADMINS = 50;
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardService dashboardService;
+    private RevenueReport weeklyRevenue;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new DashboardService(analyticsService, transactionManager, new SimpleMeterRegistry(),
+                4, 2000, 30);
+        weeklyRevenue = new RevenueReport();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.stop();
+    }
+
+    @Test
+    void getDashboard_ConcurrentRefreshes_ComputedOnce() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(analyticsService.getCurrentWeekRevenue()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return weeklyRevenue;
+        });
+        when(analyticsService.getCurrentMonthRevenue()).thenReturn(new RevenueReport());
+        when(analyticsService.getTopSellingProductsThisMonth()).thenReturn(new TopSellingProductsResponse());
+        when(analyticsService.getCriticalStockProducts()).thenReturn(new LowStockResponse());
+
+        List<CompletableFuture<DashboardResponse>> refreshes = new ArrayList<>();
+        for (int i = 0; i < ADMINS; i++) {
+            refreshes.add(CompletableFuture.supplyAsync(dashboardService::getDashboard));
+        }
+        release.countDown();
+
+        for (CompletableFuture<DashboardResponse> refresh : refreshes) {
+            assertSame(weeklyRevenue, refresh.get(5, TimeUnit.SECONDS).getWeeklyRevenue());
+        }
+        verify(analyticsService, times(1)).getCurrentWeekRevenue();
+        verify(analyticsService, times(1)).getCriticalStockProducts();
+    }
+
+    @Test
+    void getDashboard_SectionsRunConcurrently() {
+        CountDownLatch started = new CountDownLatch(4);
+        when(analyticsService.getCurrentWeekRevenue()).thenAnswer(invocation -> awaitAll(started, new RevenueReport()));
+        when(analyticsService.getCurrentMonthRevenue()).thenAnswer(invocation -> awaitAll(started, new RevenueReport()));
+        when(analyticsService.getTopSellingProductsThisMonth())
+                .thenAnswer(invocation -> awaitAll(started, new TopSellingProductsResponse()));
+        when(analyticsService.getCriticalStockProducts())
+                .thenAnswer(invocation -> awaitAll(started, new LowStockResponse()));
+
+        DashboardResponse dashboard = dashboardService.getDashboard();
+
+        assertNotNull(dashboard.getCriticalStockProducts());
+    }
+
+    @Test
+    void getDashboard_SectionTimesOut_ThrowsAndRetriesNextTime() {
+        dashboardService.stop();
+        dashboardService = new DashboardService(analyticsService, transactionManager, new SimpleMeterRegistry(),
+                4, 100, 30);
+        CountDownLatch release = new CountDownLatch(1);
+        when(analyticsService.getCurrentWeekRevenue()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return weeklyRevenue;
+        });
+        when(analyticsService.getCurrentMonthRevenue()).thenReturn(new RevenueReport());
+        when(analyticsService.getTopSellingProductsThisMonth()).thenReturn(new TopSellingProductsResponse());
+        when(analyticsService.getCriticalStockProducts()).thenReturn(new LowStockResponse());
+
+        assertThrows(ServiceUnavailableException.class, dashboardService::getDashboard);
+        release.countDown();
+
+        assertSame(weeklyRevenue, dashboardService.getDashboard().getWeeklyRevenue());
+        verify(analyticsService, times(2)).getCurrentWeekRevenue();
+    }
+
+    private <T> T awaitAll(CountDownLatch started, T result) throws InterruptedException {
+        started.countDown();
+        if (!started.await(1, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Dashboard sections ran sequentially");
+        }
+        return result;
+    }
+}
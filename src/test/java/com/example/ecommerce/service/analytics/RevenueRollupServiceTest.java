@@ -0,0 +1,210 @@
+package com.example.ecommerce.service.analytics;
+
+import com.example.ecommerce.dto.request.OrderItemRequest;
+import com.example.ecommerce.dto.request.OrderRequest;
+import com.example.ecommerce.dto.response.TimeSeriesPoint;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.User;
+import com.example.ecommerce.model.vo.OrderStatus;
+import com.example.ecommerce.model.vo.Role;
+import com.example.ecommerce.model.vo.TimeSeriesGranularity;
+import com.example.ecommerce.repository.DailyRevenueRollupRepository;
+import com.example.ecommerce.repository.HourlyRevenueRollupRepository;
+import com.example.ecommerce.repository.JobLockRepository;
+import com.example.ecommerce.repository.MinuteRevenueRollupRepository;
+import com.example.ecommerce.repository.OrderRepository;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.repository.RevenueRollupDeltaRepository;
+import com.example.ecommerce.repository.UserRepository;
+import com.example.ecommerce.service.OrderService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "app.revenue-rollup.reconcile-cron=-")
+@ActiveProfiles("test")
+class RevenueRollupServiceTest {
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MinuteRevenueRollupRepository minuteRepository;
+
+    @Autowired
+    private HourlyRevenueRollupRepository hourlyRepository;
+
+    @Autowired
+    private DailyRevenueRollupRepository dailyRepository;
+
+    @Autowired
+    private RevenueRollupDeltaRepository deltaRepository;
+
+    @Autowired
+    private JobLockRepository jobLockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private LocalDateTime now;
+    private Long recentOrderId;
+
+    @BeforeEach
+    void setUp() {
+        User buyer = userRepository.findByUsername("rollup-buyer").orElseGet(() -> userRepository.save(User.builder()
+                .username("rollup-buyer")
+                .email("rollup-buyer@example.com")
+                .passwordHash("hash")
+                .role(Role.USER)
+                .build()));
+        Product product = productRepository.save(Product.builder()
+                .name("Rollup Product")
+                .price(BigDecimal.valueOf(40))
+                .stock(100)
+                .build());
+        OrderRequest request = new OrderRequest(List.of(new OrderItemRequest(product.getId(), 1)), "Rollup street");
+
+        now = LocalDateTime.now();
+        Long oldOrderId = orderService.placeOrder(request, buyer.getId(), null).getId();
+        recentOrderId = orderService.placeOrder(request, buyer.getId(), null).getId();
+        orderService.placeOrder(request, buyer.getId(), null);
+
+        orderService.updateOrderStatus(oldOrderId, OrderStatus.DELIVERED);
+        backdate(oldOrderId, now.minusDays(2).minusMinutes(30));
+        backdate(recentOrderId, now.minusHours(5));
+        revenueRollupService.reconcile(EPOCH, now.truncatedTo(ChronoUnit.HOURS));
+    }
+
+    @Test
+    void summarize_AfterReconcile_MatchesOrders() {
+        LocalDateTime start = now.minusDays(3);
+
+        assertEquals(ordersBetween(start, now), revenueRollupService.summarize(start, now));
+        assertEquals(ordersBetween(now.minusHours(7), now), revenueRollupService.summarize(now.minusHours(7), now));
+    }
+
+    @Test
+    void summarize_StatusChangedAfterReconcile_AppliedIncrementally() {
+        LocalDateTime start = now.minusDays(3);
+        RevenueTotals before = revenueRollupService.summarize(start, now);
+
+        orderService.updateOrderStatus(recentOrderId, OrderStatus.DELIVERED);
+        revenueRollupService.flush();
+
+        RevenueTotals after = revenueRollupService.summarize(start, now);
+        assertEquals(before.revenue().add(BigDecimal.valueOf(40)), after.revenue());
+        assertEquals(before.deliveredCount() + 1, after.deliveredCount());
+        assertEquals(before.orderCount(), after.orderCount());
+        assertEquals(ordersBetween(start, now), after);
+    }
+
+    @Test
+    void getSeries_HourlyBuckets_SumToOrdersAndFillGaps() {
+        LocalDateTime end = now.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime start = end.minusDays(3);
+
+        List<TimeSeriesPoint> points = revenueRollupService.getSeries(TimeSeriesGranularity.HOUR, start, end);
+
+        assertEquals(72, points.size());
+        assertEquals(start, points.get(0).getBucketStart());
+        RevenueTotals expected = ordersBetween(start, end);
+        assertEquals(expected.revenue(), points.stream()
+                .map(TimeSeriesPoint::getRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add)
+                .setScale(2, RoundingMode.HALF_UP));
+        assertEquals(expected.orderCount(), points.stream().mapToLong(TimeSeriesPoint::getOrders).sum());
+        assertEquals(expected.unitsSold(), points.stream().mapToLong(TimeSeriesPoint::getUnitsSold).sum());
+    }
+
+    @Test
+    void getSeries_MinuteBucketsAfterDelivery_IncludeUnits() {
+        LocalDateTime start = now.minusHours(6).truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime end = now.plusMinutes(1).truncatedTo(ChronoUnit.MINUTES);
+
+        revenueRollupService.flush();
+        List<TimeSeriesPoint> before = revenueRollupService.getSeries(TimeSeriesGranularity.MINUTE, start, end);
+
+        orderService.updateOrderStatus(recentOrderId, OrderStatus.DELIVERED);
+        revenueRollupService.flush();
+
+        List<TimeSeriesPoint> after = revenueRollupService.getSeries(TimeSeriesGranularity.MINUTE, start, end);
+        assertEquals(1, after.stream().mapToLong(TimeSeriesPoint::getUnitsSold).sum()
+                - before.stream().mapToLong(TimeSeriesPoint::getUnitsSold).sum());
+        assertEquals(1, after.stream().mapToLong(TimeSeriesPoint::getDeliveredOrders).sum()
+                - before.stream().mapToLong(TimeSeriesPoint::getDeliveredOrders).sum());
+    }
+
+    @Test
+    void reconcile_UnflushedDeltaInRange_NotCountedTwice() {
+        LocalDateTime start = now.minusDays(3);
+        LocalDateTime to = now.truncatedTo(ChronoUnit.HOURS);
+
+        orderService.updateOrderStatus(recentOrderId, OrderStatus.DELIVERED);
+        revenueRollupService.reconcile(EPOCH, to);
+        revenueRollupService.flush();
+
+        assertEquals(ordersBetween(start, to), revenueRollupService.summarize(start, to));
+    }
+
+    @Test
+    void reconcile_ConcurrentNodes_SerializedAndConsistent() {
+        RevenueRollupService otherNode = new RevenueRollupService(orderRepository, minuteRepository, hourlyRepository,
+                dailyRepository, deltaRepository, jobLockRepository, transactionManager, new SimpleMeterRegistry(),
+                true, 2, 7, 5000);
+        LocalDateTime to = now.truncatedTo(ChronoUnit.HOURS);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 10)
+                    .mapToObj(i -> CompletableFuture.runAsync(
+                            () -> (i % 2 == 0 ? revenueRollupService : otherNode).reconcile(EPOCH, to), executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        LocalDateTime start = now.minusDays(3);
+        assertEquals(ordersBetween(start, to), revenueRollupService.summarize(start, to));
+    }
+
+    private RevenueTotals ordersBetween(LocalDateTime start, LocalDateTime end) {
+        return RevenueTotals.fromRows(orderRepository.summarizeRevenueBetween(start, end));
+    }
+
+    private void backdate(Long orderId, LocalDateTime createdAt) {
+        jdbcTemplate.update("UPDATE orders SET created_at = ? WHERE id = ?", createdAt, orderId);
+    }
+}
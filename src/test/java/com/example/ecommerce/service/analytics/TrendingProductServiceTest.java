@@ -0,0 +1,83 @@
+package com.example.ecommerce.service.analytics;
+
+import com.example.ecommerce.dto.response.TrendingProduct;
+import com.example.ecommerce.dto.response.TrendingProductsResponse;
+import com.example.ecommerce.exception.BadRequestException;
+import com.example.ecommerce.util.checker.AnalyticsChecker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrendingProductServiceTest {
+
+    private static final long HOUR = 500_000;
+    private static final int CAPACITY = 10;
+    private static final int WINDOW_HOURS = 48;
+
+    private TrendingProductService trendingProductService;
+
+    @BeforeEach
+    void setUp() {
+        trendingProductService = new TrendingProductService(new AnalyticsChecker(), true, CAPACITY, WINDOW_HOURS);
+    }
+
+    @Test
+    void topProducts_HeavyHittersAmongNoise_FoundWithinBounds() {
+        List<TrendingProductService.Sale> sales = new ArrayList<>();
+        long noiseId = 1000;
+        for (int round = 0; round < 10; round++) {
+            for (long heavyId = 1; heavyId <= 3; heavyId++) {
+                sales.add(new TrendingProductService.Sale(heavyId, "Heavy " + heavyId, 10));
+            }
+            for (int i = 0; i < 20; i++) {
+                sales.add(new TrendingProductService.Sale(noiseId++, "Noise", 1));
+            }
+        }
+        trendingProductService.record(HOUR, sales);
+
+        TrendingProductsResponse response = trendingProductService.topProducts(HOUR, 3, 1);
+
+        assertEquals(500, response.getTotalSold());
+        assertEquals(50, response.getErrorBound());
+        assertEquals(List.of(1L, 2L, 3L), response.getProducts().stream().map(TrendingProduct::getProductId).toList());
+        for (TrendingProduct product : response.getProducts()) {
+            assertTrue(product.getMinimumSold() <= 100 && 100 <= product.getMaximumSold());
+            assertTrue(product.getMaximumSold() - product.getMinimumSold() <= response.getErrorBound());
+        }
+    }
+
+    @Test
+    void topProducts_OnlyCountsRequestedHours() {
+        trendingProductService.record(HOUR - 3, List.of(new TrendingProductService.Sale(1L, "Old", 50)));
+        trendingProductService.record(HOUR, List.of(new TrendingProductService.Sale(2L, "Recent", 5)));
+
+        TrendingProductsResponse lastTwoHours = trendingProductService.topProducts(HOUR, 10, 2);
+        TrendingProductsResponse lastFourHours = trendingProductService.topProducts(HOUR, 10, 4);
+
+        assertEquals(List.of(2L), lastTwoHours.getProducts().stream().map(TrendingProduct::getProductId).toList());
+        assertEquals(List.of(1L, 2L), lastFourHours.getProducts().stream().map(TrendingProduct::getProductId).toList());
+        assertEquals(55, lastFourHours.getTotalSold());
+    }
+
+    @Test
+    void topProducts_ExpiredHourReplacedByNewOne() {
+        trendingProductService.record(HOUR, List.of(new TrendingProductService.Sale(1L, "Expired", 50)));
+        trendingProductService.record(HOUR + WINDOW_HOURS, List.of(new TrendingProductService.Sale(2L, "Fresh", 5)));
+        trendingProductService.record(HOUR, List.of(new TrendingProductService.Sale(3L, "Late", 5)));
+
+        TrendingProductsResponse response = trendingProductService.topProducts(HOUR + WINDOW_HOURS, 10, WINDOW_HOURS);
+
+        assertEquals(List.of(2L), response.getProducts().stream().map(TrendingProduct::getProductId).toList());
+    }
+
+    @Test
+    void getTrendingProducts_WindowBeyondRetention_Throws() {
+        assertThrows(BadRequestException.class, () -> trendingProductService.getTrendingProducts(10, WINDOW_HOURS + 1));
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.ecommerce.service.export;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.ExportDataset;
+import com.example.ecommerce.model.vo.DataFormat;
+import com.example.ecommerce.repository.ProductRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ExportServiceTest {
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void export_ProductsAsNdjson_OneObjectPerLine() throws Exception {
+        LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+        productRepository.saveAll(List.of(product("Export Lamp", "Home, Garden"), product("Export Desk", "Office")));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        long rows = exportService.export(ExportDataset.PRODUCTS, DataFormat.NDJSON, from, null, null, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(rows, lines.size());
+        JsonNode lamp = lines.stream()
+                .map(this::parse)
+                .filter(node -> node.get("name").asText().equals("Export Lamp"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("Home, Garden", lamp.get("category").asText());
+        assertEquals(0, new BigDecimal("12.50").compareTo(lamp.get("price").decimalValue()));
+    }
+
+    @Test
+    void export_ProductsAsCsv_QuotesValuesWithSeparators() {
+        LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+        productRepository.save(product("Export \"Quoted\" Chair", "Home, Garden"));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.export(ExportDataset.PRODUCTS, DataFormat.CSV, from, null, null, output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertTrue(csv.startsWith("id,name,description,category,price,stock,is_active,created_at,updated_at\r\n"));
+        assertTrue(csv.contains(",\"Export \"\"Quoted\"\" Chair\",,\"Home, Garden\",12.50,3,true,"));
+    }
+
+    @Test
+    void export_RangeInFuture_WritesNothing() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportService.export(ExportDataset.ORDERS, DataFormat.NDJSON,
+                LocalDateTime.now().plusDays(1), null, null, output);
+
+        assertEquals(0, rows);
+        assertEquals(0, output.size());
+    }
+
+    private JsonNode parse(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Product product(String name, String category) {
+        return Product.builder()
+                .name(name)
+                .category(category)
+                .price(new BigDecimal("12.50"))
+                .stock(3)
+                .build();
+    }
+}
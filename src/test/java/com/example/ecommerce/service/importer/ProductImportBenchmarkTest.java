@@ -0,0 +1,59 @@
+package com.example.ecommerce.service.importer;
+
+import com.example.ecommerce.dto.response.ProductImportResponse;
+import com.example.ecommerce.model.vo.DataFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ProductImportBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImportBenchmarkTest.class);
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void importProducts_HundredThousandRows() throws Exception {
+        Path file = directory.resolve("catalog.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("sku,name,description,price,stock,category\n");
+            for (int i = 0; i < ROWS; i++) {
+                writer.write("BENCH-" + i + ",Benchmark Product " + i + ",Imported item," + (i % 500 + 1) + ".99,"
+                        + (i % 100) + ",Category " + (i % 40) + "\n");
+            }
+        }
+
+        ProductImportResponse response;
+        try (InputStream input = Files.newInputStream(file)) {
+            response = productImportService.importProducts(input, DataFormat.CSV);
+        }
+
+        log.info("Imported {} rows in {} ms ({} rows/s), heap used {} MB",
+                response.getTotalRows(), response.getDurationMillis(),
+                response.getTotalRows() * 1000 / Math.max(1, response.getDurationMillis()),
+                (Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory()) / (1024 * 1024));
+        assertEquals(ROWS, response.getCreatedProducts());
+        assertEquals(0, response.getFailedRows());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ecommerce.service.importer;
+
+import com.example.ecommerce.dto.response.ProductImportResponse;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.DataFormat;
+import com.example.ecommerce.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProductImportServiceTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void importProducts_Csv_CreatesThenUpdatesBySku() {
+        ProductImportResponse first = productImportService.importProducts(stream(
+                "sku,name,description,price,stock,category\r\n" +
+                        "IMP-1,Import Lamp,\"Warm, dimmable\",19.99,5,Home\r\n" +
+                        "IMP-2,Import Desk,,120.00,2,Office\r\n" +
+                        "IMP-3,Import Chair,,abc,1,Office\r\n" +
+                        ",Missing Sku,,10.00,1,Office\r\n"), DataFormat.CSV);
+
+        assertEquals(4, first.getTotalRows());
+        assertEquals(2, first.getCreatedProducts());
+        assertEquals(2, first.getFailedRows());
+        assertEquals(List.of(3L, 4L), first.getErrors().stream().map(error -> error.getRow()).toList());
+
+        ProductImportResponse second = productImportService.importProducts(stream(
+                "sku,name,price,stock\n" +
+                        "IMP-1,Import Lamp XL,24.99,7\n"), DataFormat.CSV);
+
+        assertEquals(1, second.getUpdatedProducts());
+        Map<String, Product> products = productRepository.findAllBySkuIn(List.of("IMP-1", "IMP-2")).stream()
+                .collect(Collectors.toMap(Product::getSku, product -> product));
+        assertEquals("Import Lamp XL", products.get("IMP-1").getName());
+        assertEquals(0, new BigDecimal("24.99").compareTo(products.get("IMP-1").getPrice()));
+        assertEquals(7, products.get("IMP-1").getStock());
+        assertEquals("Office", products.get("IMP-2").getCategory());
+    }
+
+    @Test
+    void importProducts_Ndjson_ReportsMalformedAndInvalidRows() {
+        ProductImportResponse response = productImportService.importProducts(stream(
+                "{\"sku\":\"IMP-JSON-1\",\"name\":\"Json Kettle\",\"price\":30.00,\"stock\":4}\n" +
+                        "{\"sku\":\"IMP-JSON-2\",\"name\":\n" +
+                        "\n" +
+                        "{\"sku\":\"IMP-JSON-3\",\"name\":\"Json Toaster\",\"price\":-1,\"stock\":4}\n"), DataFormat.NDJSON);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(1, response.getCreatedProducts());
+        assertEquals(2, response.getFailedRows());
+        assertEquals("IMP-JSON-3", response.getErrors().get(1).getSku());
+        assertEquals(4L, response.getErrors().get(1).getRow());
+    }
+
+    @Test
+    void importProducts_DuplicateSku_ReportsLaterRowsAsFailed() {
+        ProductImportResponse response = productImportService.importProducts(stream(
+                "sku,name,price,stock\n" +
+                        "IMP-DUP-1,Dup Mug,8.00,3\n" +
+                        "IMP-DUP-2,Dup Plate,12.00,6\n" +
+                        "IMP-DUP-1,Dup Mug Large,9.00,4\n"), DataFormat.CSV);
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(2, response.getCreatedProducts());
+        assertEquals(0, response.getUpdatedProducts());
+        assertEquals(1, response.getFailedRows());
+        assertEquals(3L, response.getErrors().get(0).getRow());
+        assertEquals("Dup Mug", productRepository.findAllBySkuIn(List.of("IMP-DUP-1")).get(0).getName());
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.ecommerce.service.invalidation;
+
+import com.example.ecommerce.ECommerceApplication;
+import com.example.ecommerce.dto.request.ProductRequest;
+import com.example.ecommerce.dto.response.ProductResponse;
+import com.example.ecommerce.service.ProductService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Testcontainers(disabledWithoutDocker = true)
+class CacheInvalidationBusIntegrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static ConfigurableApplicationContext firstNode;
+    private static ConfigurableApplicationContext secondNode;
+
+    @BeforeAll
+    static void startNodes() {
+        firstNode = startNode();
+        secondNode = startNode();
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (secondNode != null) {
+            secondNode.close();
+        }
+        if (firstNode != null) {
+            firstNode.close();
+        }
+    }
+
+    @Test
+    void updateProduct_OnOneNode_EvictsCachedProductOnTheOther() {
+        ProductService firstProducts = firstNode.getBean(ProductService.class);
+        ProductService secondProducts = secondNode.getBean(ProductService.class);
+
+        ProductResponse created = firstProducts.createProduct(request("Original Name", "Books"));
+        assertEquals("Original Name", secondProducts.getProductById(created.getId()).getName());
+        assertEquals("Books", secondProducts.getAllCategories().get(0));
+
+        firstProducts.updateProduct(created.getId(), request("Renamed", "Games"));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertEquals("Renamed", secondProducts.getProductById(created.getId()).getName());
+            assertEquals("Games", secondProducts.getAllCategories().get(0));
+        });
+    }
+
+    private static ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(ECommerceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + POSTGRES.getJdbcUrl(),
+                        "spring.datasource.username=" + POSTGRES.getUsername(),
+                        "spring.datasource.password=" + POSTGRES.getPassword(),
+                        "spring.datasource.driver-class-name=org.postgresql.Driver",
+                        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                        "spring.jpa.hibernate.ddl-auto=none",
+                        "spring.liquibase.enabled=true",
+                        "app.cache-invalidation.enabled=true")
+                .run();
+    }
+
+    private static ProductRequest request(String name, String category) {
+        ProductRequest request = new ProductRequest();
+        request.setName(name);
+        request.setPrice(BigDecimal.TEN);
+        request.setStock(5);
+        request.setCategory(category);
+        return request;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.ecommerce.service.outbox;
+
+import com.example.ecommerce.model.OutboxEvent;
+import com.example.ecommerce.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private OutboxSink outboxSink;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxEventRepository, outboxSink, transactionTemplate, meterRegistry,
+                true, 2, 24);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    void relay_PublishesBatchesAndMarksThemPublished() {
+        List<OutboxEvent> firstBatch = List.of(event(11L), event(12L));
+        List<OutboxEvent> secondBatch = List.of(event(14L));
+        when(outboxEventRepository.findUnpublishedForUpdate(any())).thenReturn(firstBatch, secondBatch);
+
+        outboxRelay.relay();
+
+        verify(outboxSink).publish(firstBatch);
+        verify(outboxSink).publish(secondBatch);
+        verify(outboxEventRepository).markPublished(eq(List.of(11L, 12L)), any(LocalDateTime.class));
+        verify(outboxEventRepository).markPublished(eq(List.of(14L)), any(LocalDateTime.class));
+        assertEquals(3, meterRegistry.counter("outbox.relay.published").count());
+    }
+
+    @Test
+    void relay_LowerIdCommittedLate_StillPublished() {
+        List<OutboxEvent> firstRun = List.of(event(14L));
+        List<OutboxEvent> secondRun = List.of(event(13L));
+        when(outboxEventRepository.findUnpublishedForUpdate(any())).thenReturn(firstRun, secondRun);
+
+        outboxRelay.relay();
+        outboxRelay.relay();
+
+        verify(outboxSink).publish(firstRun);
+        verify(outboxSink).publish(secondRun);
+        verify(outboxEventRepository).markPublished(eq(List.of(13L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void relay_SinkFails_EventsLeftUnpublished() {
+        when(outboxEventRepository.findUnpublishedForUpdate(any())).thenReturn(List.of(event(11L)));
+        doThrow(new IllegalStateException("sink down")).when(outboxSink).publish(anyList());
+
+        outboxRelay.relay();
+
+        verify(outboxEventRepository, never()).markPublished(anyCollection(), any(LocalDateTime.class));
+        assertEquals(0, meterRegistry.counter("outbox.relay.published").count());
+    }
+
+    private OutboxEvent event(Long id) {
+        return OutboxEvent.builder().id(id).payload("{}").createdAt(LocalDateTime.now()).build();
+    }
+}
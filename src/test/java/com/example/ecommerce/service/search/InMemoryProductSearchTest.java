@@ -0,0 +1,118 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.model.vo.CacheInvalidationType;
+import com.example.ecommerce.repository.ProductRepository;
+import com.example.ecommerce.service.invalidation.CacheInvalidationEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryProductSearchTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private InMemoryProductSearch productSearch;
+    private Product keyboard;
+    private Product mouse;
+    private Product manual;
+
+    @BeforeEach
+    void setUp() {
+        productSearch = new InMemoryProductSearch(productRepository, 100);
+        keyboard = product(1L, "Wireless Keyboard", "Electronics", "Compact keyboard with backlight");
+        mouse = product(2L, "Wireless Mouse", "Electronics", "Pairs with any keyboard");
+        manual = product(3L, "Keyboard Manual", "Books", "Printed guide");
+        productSearch.index(keyboard);
+        productSearch.index(mouse);
+        productSearch.index(manual);
+        Map<Long, Product> products = Map.of(1L, keyboard, 2L, mouse, 3L, manual);
+        when(productRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Product> found = new ArrayList<>();
+            for (Long id : invocation.<Iterable<Long>>getArgument(0)) {
+                found.add(products.get(id));
+            }
+            return found;
+        });
+    }
+
+    @Test
+    void search_RanksNameMatchesAboveDescriptionMatches() {
+        Page<Product> result = productSearch.search("keyboard", PageRequest.of(0, 10));
+
+        assertEquals(3, result.getTotalElements());
+        assertEquals(2L, result.getContent().get(2).getId());
+    }
+
+    @Test
+    void search_AllTermsMustMatch() {
+        Page<Product> result = productSearch.search("wireless keyboard", PageRequest.of(0, 10));
+
+        assertEquals(2, result.getTotalElements());
+        assertEquals(1L, result.getContent().get(0).getId());
+    }
+
+    @Test
+    void search_Paged_ReturnsRequestedSlice() {
+        Page<Product> result = productSearch.search("keyboard", PageRequest.of(1, 2));
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(3, result.getTotalElements());
+    }
+
+    @Test
+    void onInvalidation_DeactivatedProduct_RemovedFromIndex() {
+        manual.setIsActive(false);
+        when(productRepository.findById(3L)).thenReturn(Optional.of(manual));
+
+        productSearch.onInvalidation(new CacheInvalidationEvent(CacheInvalidationType.PRODUCT, 3L, 2L));
+
+        Page<Product> result = productSearch.search("manual", PageRequest.of(0, 10));
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    void onInvalidation_All_RebuildsIndexFromRepository() {
+        mouse.setName("Wireless Trackball");
+        when(productRepository.findAllActive(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(keyboard, mouse), invocation.getArgument(0), 2));
+
+        productSearch.onInvalidation(new CacheInvalidationEvent(CacheInvalidationType.ALL, null, null));
+
+        Page<Product> result = productSearch.search("keyboard", PageRequest.of(0, 10));
+        assertEquals(List.of(1L, 2L), result.getContent().stream().map(Product::getId).toList());
+        assertTrue(productSearch.search("trackball", PageRequest.of(0, 10)).hasContent());
+    }
+
+    private Product product(Long id, String name, String category, String description) {
+        return Product.builder()
+                .id(id)
+                .name(name)
+                .category(category)
+                .description(description)
+                .price(BigDecimal.TEN)
+                .stock(5)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.dto.response.CategoryFacet;
+import com.example.ecommerce.dto.response.FacetedSearchResponse;
+import com.example.ecommerce.dto.response.PriceRangeFacet;
+import com.example.ecommerce.model.Product;
+import com.example.ecommerce.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ProductFacetServiceTest {
+
+    @Autowired
+    private ProductFacetService productFacetService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository.saveAllAndFlush(List.of(
+                product("Facet Lamp", "Home", "20.00", 5),
+                product("Facet Chair", "Home", "120.00", 0),
+                product("Facet Table", "Home", "300.00", 2),
+                product("Facet Novel", "Books", "15.00", 8),
+                product("Facet Atlas", "Books", "60.00", 1),
+                product("Other Kettle", "Home", "30.00", 4)));
+    }
+
+    @Test
+    void search_CombinesAllFilters() {
+        FacetedSearchResponse response = productFacetService.search(
+                new ProductFilter("facet", "Home", new BigDecimal("10"), new BigDecimal("200"), true),
+                PageRequest.of(0, 10, Sort.by("price")));
+
+        assertEquals(1, response.getProducts().getTotalElements());
+        assertEquals("Facet Lamp", response.getProducts().getContent().get(0).getName());
+    }
+
+    @Test
+    void search_CategoryFacetsIgnoreSelectedCategory() {
+        FacetedSearchResponse response = productFacetService.search(
+                new ProductFilter("facet", "Home", null, new BigDecimal("100"), false),
+                PageRequest.of(0, 10, Sort.by("price")));
+
+        Map<String, Long> categories = response.getCategories().stream()
+                .collect(Collectors.toMap(CategoryFacet::getCategory, CategoryFacet::getCount));
+        assertEquals(Map.of("Home", 1L, "Books", 2L), categories);
+    }
+
+    @Test
+    void search_PriceFacetsIgnoreSelectedPriceRange() {
+        FacetedSearchResponse response = productFacetService.search(
+                new ProductFilter("facet", "Home", null, new BigDecimal("100"), false),
+                PageRequest.of(0, 10, Sort.by("price")));
+
+        Map<BigDecimal, Long> priceRanges = response.getPriceRanges().stream()
+                .filter(range -> range.getCount() > 0)
+                .collect(Collectors.toMap(PriceRangeFacet::getMinPrice, PriceRangeFacet::getCount));
+        assertEquals(Map.of(new BigDecimal("0"), 1L, new BigDecimal("100"), 1L, new BigDecimal("250"), 1L), priceRanges);
+    }
+
+    @Test
+    void search_PageBeyondResults_ReturnsTotalWithoutContent() {
+        FacetedSearchResponse response = productFacetService.search(
+                new ProductFilter("facet", null, null, null, false),
+                PageRequest.of(3, 2, Sort.by("name")));
+
+        assertEquals(5, response.getProducts().getTotalElements());
+        assertEquals(0, response.getProducts().getContent().size());
+    }
+
+    private Product product(String name, String category, String price, int stock) {
+        return Product.builder()
+                .name(name)
+                .category(category)
+                .price(new BigDecimal(price))
+                .stock(stock)
+                .build();
+    }
+}
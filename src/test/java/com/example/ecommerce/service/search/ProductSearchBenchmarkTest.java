@@ -0,0 +1,87 @@
+package com.example.ecommerce.service.search;
+
+import com.example.ecommerce.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class ProductSearchBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductSearchBenchmarkTest.class);
+    private static final int PRODUCTS = 1_000_000;
+    private static final int ITERATIONS = 20;
+    private static final String QUERY = "keyboard";
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.liquibase.enabled", () -> "true");
+        registry.add("app.search.engine", () -> "POSTGRES");
+    }
+
+    @Test
+    void search_OneMillionProducts_FullTextVersusLike() {
+        seed();
+
+        long likeMillis = time(() -> productRepository
+                .findByNameContainingAndActive(QUERY, PageRequest.of(0, 20))
+                .getTotalElements());
+        long fullTextMillis = time(() -> productRepository.searchIdsByFullText(QUERY, 20, 0).size()
+                + productRepository.countByFullText(QUERY));
+
+        log.info("LIKE: {} ms/query, full-text: {} ms/query over {} products",
+                likeMillis / ITERATIONS, fullTextMillis / ITERATIONS, PRODUCTS);
+        assertTrue(fullTextMillis < likeMillis,
+                "Expected full-text search to beat LIKE, but took " + fullTextMillis + " ms vs " + likeMillis + " ms");
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO products (name, description, price, stock, category) " +
+                "SELECT 'Product ' || g || CASE WHEN g % 1000 = 0 THEN ' Keyboard' ELSE ' Widget' END, " +
+                "'Generated description ' || md5(g::text), 9.99, 100, 'Category ' || (g % 50) " +
+                "FROM generate_series(1, ?) g", PRODUCTS);
+        jdbcTemplate.execute("ANALYZE products");
+    }
+
+    private long time(Supplier<Number> query) {
+        query.get();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.ecommerce.util.generator;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderNumberGeneratorTest {
+
+    @Test
+    void generate_PrefixedAndEncodesNode() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(42);
+
+        String orderNumber = generator.generate();
+        long id = Long.parseLong(orderNumber.substring(OrderNumberGenerator.PREFIX.length()));
+
+        assertTrue(orderNumber.startsWith(OrderNumberGenerator.PREFIX));
+        assertTrue(orderNumber.length() <= 50);
+        assertEquals(42, (id >>> OrderNumberGenerator.SEQUENCE_BITS) & OrderNumberGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    void nextId_MonotonicWithinThread() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1);
+
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long current = generator.nextId();
+            assertTrue(current > previous);
+            previous = current;
+        }
+    }
+
+    @Test
+    void nextId_DifferentNodes_NeverCollide() {
+        OrderNumberGenerator first = new OrderNumberGenerator(1);
+        OrderNumberGenerator second = new OrderNumberGenerator(2);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertNotEquals(first.nextId(), second.nextId());
+        }
+    }
+
+    @Test
+    void constructor_NodeIdOutOfRange_Throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new OrderNumberGenerator(OrderNumberGenerator.MAX_NODE_ID + 1));
+    }
+
+    @Test
+    void constructor_NodeIdNotConfigured_Throws() {
+        assertThrows(IllegalStateException.class, () -> new OrderNumberGenerator(-1));
+    }
+
+    @Test
+    void nextId_ConcurrentThreads_Unique() throws Exception {
+        assertUniqueUnderLoad(8, 250_000, 0);
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+    void nextId_StressTensOfMillions_UniqueAndFast() throws Exception {
+        assertUniqueUnderLoad(32, 1_000_000, 5_000_000);
+    }
+
+    private void assertUniqueUnderLoad(int threads, int perThread, double minIdsPerSecond) throws Exception {
+        OrderNumberGenerator generator = new OrderNumberGenerator(7);
+        long[] ids = new long[threads * perThread];
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[offset + i] = generator.nextId();
+                }
+                return null;
+            }));
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        double idsPerSecond = ids.length / (elapsedNanos / 1_000_000_000.0);
+
+        for (int t = 0; t < threads; t++) {
+            for (int i = t * perThread + 1; i < (t + 1) * perThread; i++) {
+                assertTrue(ids[i] > ids[i - 1], "Order numbers must be monotonic per thread");
+            }
+        }
+
+        Arrays.sort(ids);
+        for (int i = 1; i < ids.length; i++) {
+            if (ids[i] == ids[i - 1]) {
+                throw new AssertionError("Duplicate order number " + ids[i]);
+            }
+        }
+
+        assertTrue(idsPerSecond >= minIdsPerSecond,
+                "Expected at least " + minIdsPerSecond + " order numbers/s, got " + idsPerSecond);
+    }
+}